@@ -0,0 +1,94 @@
+#!/usr/bin/env bash
+#
+# Vergleicht die Startzeit der App in mehreren Modi:
+#   default   entpacktes Jar ohne weitere Optionen
+#   lazy      spring.main.lazy-initialization=true (alle Beans erst bei Bedarf)
+#   aot       Spring-AOT-Bean-Definitionen (-Dspring.aot.enabled=true)
+#   cds       AppCDS-Archiv aus dem Trainingslauf
+#   aot-cds   AOT und CDS zusammen
+#
+# Gemessen wird "process running for" aus der Startmeldung von Spring Boot, also inklusive JVM-Start.
+# Warm-up (app.warmup) ist aus, er kostet in allen Modi gleich viel und verschiebt nur die Readiness.
+# Pro Modus gibt es einen verworfenen Lauf (Page Cache), danach RUNS Messungen nacheinander.
+#
+# Aufruf: scripts/startup-benchmark.sh [modus ...]
+#   RUNS=10 scripts/startup-benchmark.sh default aot-cds
+#   SKIP_BUILD=1 verwendet ein vorhandenes target/application (mvn -Paot-cds package)
+#
+# Das CDS-Archiv gehört zu genau diesem JDK und Jar: nach jedem Build oder JDK-Wechsel neu bauen.
+# Gestartet wird wie im Trainingslauf aus target/application mit relativem Jar-Pfad, sonst verwirft die JVM
+# das Archiv; -Xshare:on lässt den Lauf dann fehlschlagen statt stillschweigend ohne CDS zu messen.
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${RUNS:-5}"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-120}"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+APP_DIR="target/application"
+MODES=("$@")
+if [ ${#MODES[@]} -eq 0 ]; then
+    MODES=(default lazy aot cds aot-cds)
+fi
+
+if [ -z "${SKIP_BUILD:-}" ]; then
+    sh mvnw -B -q -Paot-cds -DskipTests package
+fi
+
+JAR="$(find "$APP_DIR" -maxdepth 1 -name '*.jar' -printf '%f\n' | head -n 1)"
+if [ -z "$JAR" ] || [ ! -f "$APP_DIR/application.jsa" ]; then
+    echo "Kein Build unter $APP_DIR, erst mvn -Paot-cds package ausführen" >&2
+    exit 1
+fi
+
+# Zufällige Ports, damit parallel laufende Instanzen nicht stören
+APP_ARGS=(--server.port=0 --grpc.server.port=0 --app.warmup.enabled=false)
+
+jvm_options() {
+    case "$1" in
+        default) ;;
+        lazy) echo "-Dspring.main.lazy-initialization=true" ;;
+        aot) echo "-Dspring.aot.enabled=true" ;;
+        cds) echo "-XX:SharedArchiveFile=application.jsa -Xshare:on" ;;
+        aot-cds) echo "-XX:SharedArchiveFile=application.jsa -Xshare:on -Dspring.aot.enabled=true" ;;
+        *) echo "Unbekannter Modus: $1" >&2; return 1 ;;
+    esac
+}
+
+# Startet die App einmal und gibt die Sekunden bis zur Startmeldung aus
+measure() {
+    local options="$1" log pid seconds=""
+    log="$(mktemp)"
+    # shellcheck disable=SC2086 # options sind absichtlich mehrere Wörter
+    (cd "$APP_DIR" && exec "$JAVA" $options -jar "$JAR" "${APP_ARGS[@]}") > "$log" 2>&1 &
+    pid=$!
+    for _ in $(seq $((TIMEOUT_SECONDS * 10))); do
+        seconds="$(sed -n 's/.*Started TaskManagerApplication in .* (process running for \([0-9.]*\)).*/\1/p' "$log")"
+        if [ -n "$seconds" ] || ! kill -0 "$pid" 2>/dev/null; then
+            break
+        fi
+        sleep 0.1
+    done
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+    if [ -z "$seconds" ]; then
+        echo "Start fehlgeschlagen, Log: $log" >&2
+        return 1
+    fi
+    rm -f "$log"
+    echo "$seconds"
+}
+
+printf '%-8s %8s %8s %8s   (%s Läufe, Sekunden)\n' mode median min max "$RUNS"
+for mode in "${MODES[@]}"; do
+    options="$(jvm_options "$mode")"
+    measure "$options" > /dev/null
+    results=()
+    for _ in $(seq "$RUNS"); do
+        results+=("$(measure "$options")")
+    done
+    sorted="$(printf '%s\n' "${results[@]}" | sort -n)"
+    median="$(echo "$sorted" | awk '{ v[NR] = $1 } END { printf "%.3f", (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2 }')"
+    printf '%-8s %8s %8s %8s\n' "$mode" "$median" "$(echo "$sorted" | head -n 1)" "$(echo "$sorted" | tail -n 1)"
+done
@@ -0,0 +1,218 @@
+package com.example.taskmanager.analytics;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * Unveränderlicher, spaltenorientierter Schnappschuss der tasks-Tabelle: eine Zeile ist ein Index
+ * in die primitiven Arrays, es gibt keine Objekte pro Task.
+ * User- und Kategorie-IDs sind dictionary-kodiert (dichte int-Indizes), damit Auswertungen mit
+ * Arrays statt Maps zählen können. Zeitstempel sind Epoch-Sekunden (UTC).
+ */
+public final class TaskColumnSnapshot {
+
+    // Kategorie-Index 0 steht für "ohne Kategorie"
+    public static final int NO_CATEGORY = 0;
+
+    private static final int MIN_LEAF_SIZE = 1 << 15;
+
+    private final int size;
+    private final int[] userIndex;
+    private final int[] categoryIndex;
+    private final BitSet completed;
+    private final long[] createdAt;
+    private final long[] updatedAt;
+    private final long[] userIds;
+    private final long[] categoryIds;
+    private final Instant builtAt;
+    private final long buildMillis;
+
+    private TaskColumnSnapshot(Builder builder, long buildMillis) {
+        this.size = builder.size;
+        this.userIndex = builder.userIndex.length == size ? builder.userIndex : Arrays.copyOf(builder.userIndex, size);
+        this.categoryIndex = builder.categoryIndex.length == size ? builder.categoryIndex : Arrays.copyOf(builder.categoryIndex, size);
+        this.completed = builder.completed;
+        this.createdAt = builder.createdAt.length == size ? builder.createdAt : Arrays.copyOf(builder.createdAt, size);
+        this.updatedAt = builder.updatedAt.length == size ? builder.updatedAt : Arrays.copyOf(builder.updatedAt, size);
+        this.userIds = Arrays.copyOf(builder.userIds, builder.userDictionary.size());
+        this.categoryIds = Arrays.copyOf(builder.categoryIds, builder.categoryDictionary.size() + 1);
+        this.builtAt = Instant.now();
+        this.buildMillis = buildMillis;
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int userCount() {
+        return userIds.length;
+    }
+
+    public int categoryCount() {
+        return categoryIds.length;
+    }
+
+    public long userId(int userIdx) {
+        return userIds[userIdx];
+    }
+
+    // Liefert 0 für NO_CATEGORY
+    public long categoryId(int categoryIdx) {
+        return categoryIds[categoryIdx];
+    }
+
+    public int userIndex(int row) {
+        return userIndex[row];
+    }
+
+    public int categoryIndex(int row) {
+        return categoryIndex[row];
+    }
+
+    public boolean isCompleted(int row) {
+        return completed.get(row);
+    }
+
+    public long completedCount() {
+        return completed.cardinality();
+    }
+
+    public long createdAt(int row) {
+        return createdAt[row];
+    }
+
+    public long updatedAt(int row) {
+        return updatedAt[row];
+    }
+
+    public Instant builtAt() {
+        return builtAt;
+    }
+
+    public long buildMillis() {
+        return buildMillis;
+    }
+
+    /**
+     * Teilt die Zeilen in Bereiche auf, scannt sie parallel im Fork/Join-Pool und führt die
+     * Teilergebnisse mit {@code combine} zusammen.
+     */
+    public <R> R scan(RangeScan<R> scan, BinaryOperator<R> combine) {
+        int leafSize = Math.max(MIN_LEAF_SIZE, size / (ForkJoinPool.getCommonPoolParallelism() * 4 + 1));
+        return ForkJoinPool.commonPool().invoke(new ScanTask<>(scan, combine, 0, size, leafSize));
+    }
+
+    @FunctionalInterface
+    public interface RangeScan<R> {
+        R scan(TaskColumnSnapshot snapshot, int from, int to);
+    }
+
+    private final class ScanTask<R> extends RecursiveTask<R> {
+
+        private final RangeScan<R> scan;
+        private final BinaryOperator<R> combine;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        ScanTask(RangeScan<R> scan, BinaryOperator<R> combine, int from, int to, int leafSize) {
+            this.scan = scan;
+            this.combine = combine;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected R compute() {
+            if (to - from <= leafSize) {
+                return scan.scan(TaskColumnSnapshot.this, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            ScanTask<R> left = new ScanTask<>(scan, combine, from, mid, leafSize);
+            left.fork();
+            R right = new ScanTask<>(scan, combine, mid, to, leafSize).compute();
+            return combine.apply(left.join(), right);
+        }
+    }
+
+    /**
+     * Sammelt Zeilen in wachsenden Arrays. Die Dictionaries existieren nur während des Aufbaus,
+     * nach {@link #build()} darf der Builder nicht weiterverwendet werden (der Snapshot übernimmt die Arrays).
+     */
+    public static final class Builder {
+
+        private final long startNanos = System.nanoTime();
+        private final Map<Long, Integer> userDictionary = new HashMap<>();
+        private final Map<Long, Integer> categoryDictionary = new HashMap<>();
+        private final BitSet completed = new BitSet();
+        private int size;
+        private int[] userIndex;
+        private int[] categoryIndex;
+        private long[] createdAt;
+        private long[] updatedAt;
+        private long[] userIds = new long[16];
+        private long[] categoryIds = new long[16];
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(16, expectedSize);
+            userIndex = new int[capacity];
+            categoryIndex = new int[capacity];
+            createdAt = new long[capacity];
+            updatedAt = new long[capacity];
+        }
+
+        public Builder add(long userId, long categoryId, boolean isCompleted, long createdEpochSecond, long updatedEpochSecond) {
+            if (size == userIndex.length) {
+                grow();
+            }
+            userIndex[size] = userDictionary.computeIfAbsent(userId, this::newUser);
+            categoryIndex[size] = categoryId == 0 ? NO_CATEGORY : categoryDictionary.computeIfAbsent(categoryId, this::newCategory);
+            completed.set(size, isCompleted);
+            createdAt[size] = createdEpochSecond;
+            updatedAt[size] = updatedEpochSecond;
+            size++;
+            return this;
+        }
+
+        public TaskColumnSnapshot build() {
+            return new TaskColumnSnapshot(this, (System.nanoTime() - startNanos) / 1_000_000);
+        }
+
+        private int newUser(long userId) {
+            int index = userDictionary.size();
+            if (index == userIds.length) {
+                userIds = Arrays.copyOf(userIds, index * 2);
+            }
+            userIds[index] = userId;
+            return index;
+        }
+
+        private int newCategory(long categoryId) {
+            int index = categoryDictionary.size() + 1;
+            if (index == categoryIds.length) {
+                categoryIds = Arrays.copyOf(categoryIds, index * 2);
+            }
+            categoryIds[index] = categoryId;
+            return index;
+        }
+
+        private void grow() {
+            int capacity = userIndex.length + (userIndex.length >> 1);
+            userIndex = Arrays.copyOf(userIndex, capacity);
+            categoryIndex = Arrays.copyOf(categoryIndex, capacity);
+            createdAt = Arrays.copyOf(createdAt, capacity);
+            updatedAt = Arrays.copyOf(updatedAt, capacity);
+        }
+    }
+}
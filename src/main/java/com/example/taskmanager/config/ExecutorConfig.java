@@ -0,0 +1,52 @@
+package com.example.taskmanager.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Eigene, begrenzte Pools neben Boots applicationTaskExecutor. Damit der trotz weiterer Executor-Beans
+ * angelegt wird und @Async (E-Mails) bedient, steht spring.task.execution.mode auf force.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    // Dashboard-Zweige: ein Burst an Dashboard-Aufrufen füllt nur diese Queue, nicht die der E-Mails.
+    // Ist sie voll, wird der Zweig als FAILED ausgeliefert statt zu warten
+    @Bean
+    public ThreadPoolTaskExecutor dashboardExecutor(@Value("${app.dashboard.executor.pool-size:8}") int poolSize,
+                                                    @Value("${app.dashboard.executor.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("dashboard-");
+        return executor;
+    }
+
+    // Parallele GET-Wellen aus POST /api/batch. Ist die Queue voll, läuft die Operation im Request-Thread
+    @Bean
+    public ThreadPoolTaskExecutor batchExecutor(@Value("${app.batch.executor.pool-size:8}") int poolSize,
+                                                @Value("${app.batch.executor.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("batch-");
+        return executor;
+    }
+
+    // StreamingResponseBody (NDJSON-Export): ein Stream belegt seinen Thread, solange der Client liest.
+    // Begrenzt, damit Streams weder @Async noch Dashboard und Batch verdrängen; ist die Queue voll, gibt es 503
+    @Bean
+    public ThreadPoolTaskExecutor streamExecutor(@Value("${app.stream.executor.pool-size:8}") int poolSize,
+                                                 @Value("${app.stream.executor.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("stream-");
+        return executor;
+    }
+}
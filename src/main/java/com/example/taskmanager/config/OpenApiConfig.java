@@ -1,21 +1,23 @@
 package com.example.taskmanager.config;
 
 import io.swagger.v3.oas.models.Components;
-import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Contact;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.License;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
+import org.springdoc.core.customizers.OpenApiCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class OpenApiConfig {
 
+    // Als Customizer statt als OpenAPI-Bean: springdoc fordert eine OpenAPI-Bean schon beim Start an,
+    // der Customizer läuft erst beim ersten Abruf von /v3/api-docs
     @Bean
-    public OpenAPI customOpenAPI() {
-        return new OpenAPI()
+    public OpenApiCustomizer customOpenAPI() {
+        return openApi -> openApi
                 .info(new Info()
                         .title("Task Manager API")
                         .version("1.0.0")
@@ -27,11 +29,16 @@ public class OpenApiConfig {
                                 .name("Apache 2.0")
                                 .url("https://www.apache.org/licences/LICENSE-2.0")))
                 .addSecurityItem(new SecurityRequirement().addList("bearerAuth"))
-                .components(new Components()
+                .components(components(openApi.getComponents())
                         .addSecuritySchemes("bearerAuth",
                                 new SecurityScheme()
                                         .type(SecurityScheme.Type.HTTP)
                                         .scheme("bearer")
                                         .bearerFormat("JWT")));
     }
+
+    // Die generierten Schemas der DTOs stecken schon in den Components und dürfen nicht ersetzt werden
+    private static Components components(Components existing) {
+        return existing != null ? existing : new Components();
+    }
 }
@@ -0,0 +1,85 @@
+package com.example.taskmanager.config;
+
+import com.example.taskmanager.deadline.DeadlineInterceptor;
+import com.example.taskmanager.timing.TimingJackson2HttpMessageConverter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+    private final DeadlineInterceptor deadlineInterceptor;
+    private final ObjectProvider<AsyncTaskExecutor> streamExecutor;
+    private final boolean serverTimingEnabled;
+
+    public WebConfig(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder,
+                     DeadlineInterceptor deadlineInterceptor,
+                     @Qualifier("streamExecutor") ObjectProvider<AsyncTaskExecutor> streamExecutor,
+                     @Value("${app.server-timing.enabled:false}") boolean serverTimingEnabled) {
+        this.objectMapperBuilder = objectMapperBuilder;
+        this.deadlineInterceptor = deadlineInterceptor;
+        this.streamExecutor = streamExecutor;
+        this.serverTimingEnabled = serverTimingEnabled;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(deadlineInterceptor).addPathPatterns("/api/**");
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        // Async-Handler (StreamingResponseBody) auf dem eigenen Stream-Pool statt auf dem applicationTaskExecutor
+        streamExecutor.ifAvailable(configurer::setTaskExecutor);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Die Standard-Converter für CBOR/Smile kennen die Jackson-Einstellungen von Spring Boot nicht
+        // (z.B. Datumsformat), deshalb durch Converter mit dem gleichen Builder wie für JSON ersetzen
+        replace(converters, MappingJackson2CborHttpMessageConverter.class,
+                new MappingJackson2CborHttpMessageConverter(
+                        objectMapperBuilder.getObject().factory(new CBORFactory()).build()));
+        replace(converters, MappingJackson2SmileHttpMessageConverter.class,
+                new MappingJackson2SmileHttpMessageConverter(
+                        objectMapperBuilder.getObject().factory(new SmileFactory()).build()));
+        if (serverTimingEnabled) {
+            // Gleicher ObjectMapper wie der Standard-Converter, nur mit Messung der Serialisierung
+            for (HttpMessageConverter<?> converter : converters) {
+                if (converter instanceof MappingJackson2HttpMessageConverter json) {
+                    replace(converters, MappingJackson2HttpMessageConverter.class,
+                            new TimingJackson2HttpMessageConverter(json.getObjectMapper()));
+                    break;
+                }
+            }
+        }
+    }
+
+    private void replace(List<HttpMessageConverter<?>> converters,
+                         Class<?> type,
+                         HttpMessageConverter<?> replacement) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (type.isInstance(converters.get(i))) {
+                converters.set(i, replacement);
+                return;
+            }
+        }
+        converters.add(replacement);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.dto.admin.CategoryUsageDTO;
+import com.example.taskmanager.dto.admin.JdbcStatisticsDTO;
+import com.example.taskmanager.dto.admin.RecordingStatusDTO;
+import com.example.taskmanager.dto.admin.StaleTasksDTO;
+import com.example.taskmanager.dto.admin.TaskOverviewDTO;
+import com.example.taskmanager.jdbc.StatementStatistics;
+import com.example.taskmanager.service.AdminAnalyticsService;
+import com.example.taskmanager.service.JfrRecordingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin")
+@Tag(name = "Admin", description = "Cross-tenant reports, requires role ADMIN")
+@SecurityRequirement(name = "bearerAuth")
+public class AdminController {
+
+    private final AdminAnalyticsService adminAnalyticsService;
+    private final JfrRecordingService jfrRecordingService;
+    private final StatementStatistics statementStatistics;
+
+    public AdminController(AdminAnalyticsService adminAnalyticsService,
+                           JfrRecordingService jfrRecordingService,
+                           StatementStatistics statementStatistics){
+        this.adminAnalyticsService = adminAnalyticsService;
+        this.jfrRecordingService = jfrRecordingService;
+        this.statementStatistics = statementStatistics;
+    }
+
+    @GetMapping("/analytics/overview")
+    @Operation(
+            summary = "Task overview",
+            description = "Returns task, completion, user and category totals across all users from the in-memory snapshot"
+    )
+    public TaskOverviewDTO getOverview(){
+        return adminAnalyticsService.getOverview();
+    }
+
+    @GetMapping("/analytics/categories")
+    @Operation(
+            summary = "Category usage",
+            description = "Returns task count and completion rate per category across all users, most used first"
+    )
+    public List<CategoryUsageDTO> getCategoryUsage(){
+        return adminAnalyticsService.getCategoryUsage();
+    }
+
+    @GetMapping("/analytics/stale-tasks")
+    @Operation(
+            summary = "Stale open tasks",
+            description = "Counts open tasks not updated for the given number of days and lists the users with the most of them"
+    )
+    public StaleTasksDTO getStaleTasks(
+            @Parameter(description = "Minimum days since the last update")
+            @RequestParam(defaultValue = "30") int olderThanDays,
+            @Parameter(description = "Number of users to list")
+            @RequestParam(defaultValue = "20") int limit){
+        return adminAnalyticsService.getStaleTasks(olderThanDays, limit);
+    }
+
+    @PostMapping("/analytics/refresh")
+    @Operation(
+            summary = "Rebuild snapshot",
+            description = "Rebuilds the in-memory task snapshot immediately instead of waiting for the next scheduled refresh"
+    )
+    public TaskOverviewDTO refreshSnapshot(){
+        adminAnalyticsService.refresh();
+        return adminAnalyticsService.getOverview();
+    }
+
+    @PostMapping("/jfr/start")
+    @Operation(
+            summary = "Start JFR recording",
+            description = "Starts a Java Flight Recorder recording including the service call, JDBC query and JWT verification events. Only one recording can run at a time"
+    )
+    public RecordingStatusDTO startRecording(
+            @Parameter(description = "JFR settings: default (low overhead) or profile (more detail, e.g. allocation)")
+            @RequestParam(defaultValue = "default") String settings){
+        return jfrRecordingService.start(settings);
+    }
+
+    @PostMapping("/jfr/stop")
+    @Operation(
+            summary = "Stop JFR recording",
+            description = "Stops the running recording; it can still be downloaded until the next one is started"
+    )
+    public RecordingStatusDTO stopRecording(){
+        return jfrRecordingService.stop();
+    }
+
+    @GetMapping(value = "/jfr/dump", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(
+            summary = "Download JFR recording",
+            description = "Returns the data of the current or last recording as a .jfr file for JDK Mission Control or the jfr tool"
+    )
+    public ResponseEntity<Resource> dumpRecording(){
+        String filename = "task-manager-" + Instant.now().truncatedTo(ChronoUnit.SECONDS).toString().replace(':', '-') + ".jfr";
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(new InputStreamResource(jfrRecordingService.dump()));
+    }
+
+    @GetMapping("/jdbc/statements")
+    @Operation(
+            summary = "Top SQL statements",
+            description = "Returns the SQL shapes with the highest total execution time, with latency percentiles, N+1 suspicions and statements per request since start or the last reset"
+    )
+    public JdbcStatisticsDTO getTopStatements(
+            @Parameter(description = "Number of statement shapes to list")
+            @RequestParam(defaultValue = "20") int limit){
+        return statementStatistics.top(limit);
+    }
+
+    @DeleteMapping("/jdbc/statements")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(
+            summary = "Reset SQL statistics",
+            description = "Clears all statement statistics, e.g. before a load test"
+    )
+    public void resetStatements(){
+        statementStatistics.reset();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.deadline.RequestTimeout;
+import com.example.taskmanager.dto.batch.BatchRequestDTO;
+import com.example.taskmanager.dto.batch.BatchResponseDTO;
+import com.example.taskmanager.service.BatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/batch")
+@Tag(name = "Batch", description = "Execute several task and category operations in one request")
+@SecurityRequirement(name = "bearerAuth")
+public class BatchController {
+
+    private final BatchService batchService;
+
+    public BatchController(BatchService batchService){
+        this.batchService = batchService;
+    }
+
+    @PostMapping
+    @RequestTimeout(millis = 30_000)
+    @Operation(
+            summary = "Execute batch",
+            description = "Executes up to 100 operations (method, path, body) against /api/tasks and /api/categories "
+                    + "and returns one result per operation in request order, each with the status the single call would return. "
+                    + "With atomic=true all operations run in one transaction and the first failure rolls back the whole batch; "
+                    + "otherwise every operation commits on its own and consecutive GETs run in parallel, at most app.batch.max-parallel at a time. "
+                    + "Each operation counts against the rate limit of its path like a single request (429 per operation) "
+                    + "and runs with the time budget of its endpoint (504 per operation); an atomic batch gets the sum of the budgets, at most the 30 s of the batch itself. "
+                    + "Query parameters the endpoint does not support are rejected with 400"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch executed, see the per-operation status"),
+            @ApiResponse(responseCode = "400", description = "Empty or too large batch"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public BatchResponseDTO executeBatch(
+            @Parameter(description = "Operations to execute", required = true)
+            @Valid @RequestBody BatchRequestDTO request){
+        return batchService.execute(request);
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.taskmanager.controller;
 
+import com.example.taskmanager.deadline.RequestTimeout;
+import com.example.taskmanager.dto.BulkOperationResponseDTO;
 import com.example.taskmanager.dto.CategoryRequestDTO;
 import com.example.taskmanager.dto.CategoryResponseDTO;
 import com.example.taskmanager.dto.TaskResponseDTO;
@@ -11,7 +13,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
@@ -94,6 +98,7 @@ public class CategoryController {
     }
 
     @DeleteMapping("/{id}")
+    @RequestTimeout(millis = 30_000)
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(
             summary = "Delete category",
@@ -109,16 +114,66 @@ public class CategoryController {
         categoryService.deleteCategory(id);
     }
 
+    @PostMapping("/{id}/merge-into/{targetId}")
+    @RequestTimeout(millis = 30_000)
+    @Operation(
+            summary = "Merge category",
+            description = "Moves all tasks of a category into the target category and deletes the source category. "
+                    + "Affects the tasks of all users, admin only"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Categories merged, returns the number of moved tasks"),
+            @ApiResponse(responseCode = "400", description = "Source and target are the same category"),
+            @ApiResponse(responseCode = "403", description = "Caller is not an admin"),
+            @ApiResponse(responseCode = "404", description = "Category not found")
+    })
+    public BulkOperationResponseDTO mergeCategory(
+            @Parameter(description = "Source category ID", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Target category ID", required = true)
+            @PathVariable Long targetId){
+        return categoryService.mergeCategory(id, targetId);
+    }
+
+    @PostMapping("/{id}/detach-tasks")
+    @RequestTimeout(millis = 30_000)
+    @Operation(
+            summary = "Detach tasks from category",
+            description = "Removes all tasks from the category without deleting them. Affects the tasks of all users, admin only"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks detached, returns the number of affected tasks"),
+            @ApiResponse(responseCode = "403", description = "Caller is not an admin"),
+            @ApiResponse(responseCode = "404", description = "Category not found")
+    })
+    public BulkOperationResponseDTO detachTasks(
+            @Parameter(description = "Category ID", required = true)
+            @PathVariable Long id){
+        return categoryService.detachTasks(id);
+    }
+
     @GetMapping("/{id}/tasks")
     @Operation(
             summary = "Get tasks by category",
-            description = "Returns all tasks in a specific category for the authenticated user"
+            description = "Returns one page of tasks in a specific category for the authenticated user, ordered by ID. "
+                    + "Without page and size this is the first 100 tasks only; the X-Has-Next header tells whether "
+                    + "more pages follow"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid page or size"),
             @ApiResponse(responseCode = "404", description = "Category not found")
     })
-    public List<TaskResponseDTO> getTasksByCategory(@PathVariable Long id){
-        return taskService.getTasksByCategory(id);
+    public List<TaskResponseDTO> getTasksByCategory(
+            @PathVariable Long id,
+            @Parameter(description = "Zero-based page index")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size, default 100, at most " + TaskService.MAX_PAGE_SIZE)
+            @RequestParam(defaultValue = "100") int size,
+            HttpServletResponse response){
+        Slice<TaskResponseDTO> tasks = taskService.getTasksByCategory(id, page, size);
+        // Slice statt Page: kein COUNT-Query, der Client erfährt nur, ob es weitergeht
+        response.setHeader("X-Has-Next", String.valueOf(tasks.hasNext()));
+        return tasks.getContent();
     }
 }
@@ -0,0 +1,35 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.dto.dashboard.DashboardResponseDTO;
+import com.example.taskmanager.model.User;
+import com.example.taskmanager.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@Tag(name = "Dashboard", description = "Aggregated landing page data")
+@SecurityRequirement(name = "bearerAuth")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService){
+        this.dashboardService = dashboardService;
+    }
+
+    @GetMapping
+    @Operation(
+            summary = "Get dashboard",
+            description = "Loads profile, tasks, completed tasks and categories concurrently. "
+                    + "Each section reports its own status and duration, failed or timed out sections are returned empty"
+    )
+    public DashboardResponseDTO getDashboard(@AuthenticationPrincipal User user){
+        return dashboardService.getDashboard(user);
+    }
+}
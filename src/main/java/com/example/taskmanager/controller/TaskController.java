@@ -1,9 +1,19 @@
 package com.example.taskmanager.controller;
 
+import com.example.taskmanager.deadline.RequestTimeout;
+import com.example.taskmanager.dto.BulkOperationResponseDTO;
+import com.example.taskmanager.dto.TaskFilter;
 import com.example.taskmanager.dto.TaskRequestDTO;
 import com.example.taskmanager.dto.TaskResponseDTO;
+import com.example.taskmanager.dto.TaskRollupBucketDTO;
+import com.example.taskmanager.dto.TaskStatsResponseDTO;
 
+import com.example.taskmanager.model.User;
+import com.example.taskmanager.service.TaskRollupService;
 import com.example.taskmanager.service.TaskService;
+import com.example.taskmanager.service.TaskStatsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,10 +21,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
+import java.time.LocalDate;
 import java.util.List;
 
 
@@ -24,29 +39,104 @@ import java.util.List;
 @SecurityRequirement(name = "bearerAuth")
 public class TaskController {
 
+    private static final int STREAM_CHUNK_SIZE = 500;
+
     private final TaskService taskService;
+    private final TaskStatsService taskStatsService;
+    private final TaskRollupService taskRollupService;
+    private final ObjectWriter taskWriter;
 
-    public TaskController(TaskService taskService){
+    public TaskController(TaskService taskService, TaskStatsService taskStatsService, TaskRollupService taskRollupService,
+                          ObjectMapper objectMapper){
         this.taskService = taskService;
+        this.taskStatsService = taskStatsService;
+        this.taskRollupService = taskRollupService;
+        this.taskWriter = objectMapper.writerFor(TaskResponseDTO.class);
     }
 
     @GetMapping
     @Operation(
             summary = "Get all tasks",
-            description = "Returns all tasks for the authenticated user"
+            description = "Returns all tasks for the authenticated user. Optional filters (completed, categoryId, keyword, "
+                    + "createdAfter/createdBefore, updatedAfter/updatedBefore) are combined with AND; "
+                    + "sort accepts id, title, completed, createdAt or updatedAt, e.g. sort=createdAt,desc"
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
                     description = "Successfully retrieved tasks"
             ),
+            @ApiResponse(responseCode = "400", description = "Invalid filter, sort or fields parameter"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Forbidden")
     })
-    public List<TaskResponseDTO> getAllTasks() {
+    public List<?> getAllTasks(
+            @ParameterObject TaskFilter filter,
+            @Parameter(description = "Comma-separated TaskResponseDTO properties to return, e.g. id,title,completed")
+            @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return taskService.getTaskFields(fields, filter);
+        }
+        if (!filter.isEmpty()) {
+            return taskService.findTasks(filter);
+        }
         return taskService.getAllTasks();
     }
 
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    @Operation(
+            summary = "Stream all tasks",
+            description = "Streams all tasks of the authenticated user as newline-delimited JSON. "
+                    + "Tasks are read page by page, the next page is only loaded once the previous one was written to the client."
+    )
+    public StreamingResponseBody streamTasks(@AuthenticationPrincipal User user) {
+        return out -> {
+            long lastId = 0;
+            List<TaskResponseDTO> chunk;
+            do {
+                chunk = taskService.getTasksAfter(user, lastId, STREAM_CHUNK_SIZE);
+                for (TaskResponseDTO task : chunk) {
+                    out.write(taskWriter.writeValueAsBytes(task));
+                    out.write('\n');
+                    lastId = task.getId();
+                }
+                // flush blockiert, solange der Client nicht nachliest (Backpressure über TCP)
+                out.flush();
+            } while (chunk.size() == STREAM_CHUNK_SIZE);
+        };
+    }
+
+    @GetMapping("/stats")
+    @Operation(
+            summary = "Get task statistics",
+            description = "Returns total, completed, open and per-category task counts for the authenticated user"
+    )
+    public TaskStatsResponseDTO getTaskStats(@AuthenticationPrincipal User user){
+        return taskStatsService.getStats(user.getId());
+    }
+
+    @GetMapping("/analytics")
+    @Operation(
+            summary = "Get task time series",
+            description = "Returns tasks created and completed per day, week or month, read from precomputed daily rollups"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Time series retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid range or granularity")
+    })
+    public List<TaskRollupBucketDTO> getTaskAnalytics(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "First day (inclusive), defaults to 29 days before 'to'")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (inclusive), defaults to today")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "day, week or month")
+            @RequestParam(defaultValue = "day") String granularity,
+            @Parameter(description = "Split buckets per category; categoryId null then means uncategorized")
+            @RequestParam(defaultValue = "false") boolean byCategory){
+        return taskRollupService.getRollups(user.getId(), from, to, granularity, byCategory);
+    }
+
     @GetMapping("/{id}")
     @Operation(
             summary = "Get task by ID",
@@ -113,24 +203,97 @@ public class TaskController {
 
     }
 
+    @PostMapping("/bulk/complete")
+    @RequestTimeout(millis = 30_000)
+    @Operation(
+            summary = "Complete tasks in bulk",
+            description = "Marks all tasks of the authenticated user matching the filter as completed, at least one criterion besides sort is required"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Returns the number of affected tasks"),
+            @ApiResponse(responseCode = "400", description = "No filter criterion given")
+    })
+    public BulkOperationResponseDTO completeTasks(@ParameterObject TaskFilter filter){
+        return taskService.completeTasks(filter);
+    }
+
+    @PostMapping("/bulk/reopen")
+    @RequestTimeout(millis = 30_000)
+    @Operation(
+            summary = "Reopen tasks in bulk",
+            description = "Marks all tasks of the authenticated user matching the filter as not completed, at least one criterion besides sort is required"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Returns the number of affected tasks"),
+            @ApiResponse(responseCode = "400", description = "No filter criterion given")
+    })
+    public BulkOperationResponseDTO reopenTasks(@ParameterObject TaskFilter filter){
+        return taskService.reopenTasks(filter);
+    }
+
+    @PostMapping("/bulk/move")
+    @RequestTimeout(millis = 30_000)
+    @Operation(
+            summary = "Move tasks in bulk",
+            description = "Moves all tasks of the authenticated user matching the filter into the target category, "
+                    + "at least one criterion besides sort is required"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks moved, returns the number of affected tasks"),
+            @ApiResponse(responseCode = "400", description = "No filter criterion given"),
+            @ApiResponse(responseCode = "404", description = "Target category not found")
+    })
+    public BulkOperationResponseDTO moveTasks(
+            @ParameterObject TaskFilter filter,
+            @Parameter(description = "Target category ID", required = true)
+            @RequestParam Long targetCategoryId){
+        return taskService.moveTasks(filter, targetCategoryId);
+    }
+
+    @DeleteMapping("/bulk")
+    @RequestTimeout(millis = 30_000)
+    @Operation(
+            summary = "Delete tasks in bulk",
+            description = "Deletes all tasks of the authenticated user matching the filter, "
+                    + "at least one criterion besides sort is required"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks deleted, returns the number of affected tasks"),
+            @ApiResponse(responseCode = "400", description = "No filter criterion given")
+    })
+    public BulkOperationResponseDTO deleteTasks(@ParameterObject TaskFilter filter){
+        return taskService.deleteTasks(filter);
+    }
+
     @GetMapping("/completed")
     @Operation(
             summary = "Get completed tasks",
             description = "Returns all completed tasks for the authenticated user"
     )
 
-    public List<TaskResponseDTO> getCompletedTasks(){
+    public List<?> getCompletedTasks(
+            @Parameter(description = "Comma-separated TaskResponseDTO properties to return")
+            @RequestParam(required = false) String fields){
+        if (fields != null) {
+            return taskService.getTaskFields(fields, TaskFilter.completed(true));
+        }
         return taskService.getCompletedTasks();
     }
 
     @GetMapping("/search")
+    @RequestTimeout(millis = 3_000)
     @Operation(
             summary = "Search tasks",
             description = "Search tasks by keyword in title"
     )
-    public List<TaskResponseDTO> searchTasks(
+    public List<?> searchTasks(
             @Parameter(description = "Search keyword", required = true)
-            @RequestParam String keyword){
+            @RequestParam String keyword,
+            @Parameter(description = "Comma-separated TaskResponseDTO properties to return")
+            @RequestParam(required = false) String fields){
+        if (fields != null) {
+            return taskService.getTaskFields(fields, TaskFilter.keyword(keyword));
+        }
         return taskService.searchTasks(keyword);
     }
 
@@ -0,0 +1,38 @@
+package com.example.taskmanager.deadline;
+
+import com.example.taskmanager.exception.DeadlineExceededException;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JpaTransactionManager, der die Request-Deadline als Transaktions-Timeout setzt.
+ * Spring gibt die Restzeit dann bei jeder Query als jakarta.persistence.query.timeout an Hibernate weiter
+ * (JDBC Statement.setQueryTimeout) und bricht mit TransactionTimedOutException ab, sobald sie abgelaufen ist.
+ * Eine explizit kürzere @Transactional(timeout) gewinnt.
+ */
+public class DeadlineAwareJpaTransactionManager extends JpaTransactionManager {
+
+    // Hibernate rundet das Query-Timeout auf ganze Sekunden (Math.round), unter 500 ms würde daraus 0 = kein Timeout
+    private static final long JDBC_ROUNDING_MILLIS = 500;
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        long remainingMillis = RequestDeadline.remainingMillis();
+        if (remainingMillis <= 0) {
+            throw new DeadlineExceededException("Deadline abgelaufen, Transaktion wird nicht mehr gestartet");
+        }
+        super.doBegin(transaction, definition);
+        if (!RequestDeadline.isSet()) {
+            return;
+        }
+
+        // Das Timeout auf der Definition kennt nur Sekunden, am Holder geht es auf die Millisekunde
+        long timeoutMillis = remainingMillis + JDBC_ROUNDING_MILLIS;
+        EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+        if (holder != null && (!holder.hasTimeout() || holder.getTimeToLiveInMillis() > timeoutMillis)) {
+            holder.setTimeoutInMillis(timeoutMillis);
+        }
+    }
+}
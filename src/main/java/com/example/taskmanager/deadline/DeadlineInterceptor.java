@@ -0,0 +1,68 @@
+package com.example.taskmanager.deadline;
+
+import com.example.taskmanager.exception.DeadlineExceededException;
+import com.example.taskmanager.exception.InvalidQueryParameterException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Setzt für jeden Controller-Aufruf eine Deadline: X-Request-Timeout (Millisekunden) vom Client,
+ * höchstens aber das Budget des Endpoints (@RequestTimeout bzw. app.deadline.default-timeout).
+ */
+@Component
+public class DeadlineInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    private final boolean enabled;
+    private final long defaultTimeoutMillis;
+
+    public DeadlineInterceptor(@Value("${app.deadline.enabled:true}") boolean enabled,
+                               @Value("${app.deadline.default-timeout:PT10S}") Duration defaultTimeout) {
+        this.enabled = enabled;
+        this.defaultTimeoutMillis = defaultTimeout.toMillis();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        RequestTimeout endpointTimeout = handlerMethod.getMethodAnnotation(RequestTimeout.class);
+        long timeoutMillis = endpointTimeout != null ? endpointTimeout.millis() : defaultTimeoutMillis;
+
+        String header = request.getHeader(TIMEOUT_HEADER);
+        if (header != null) {
+            long requested;
+            try {
+                requested = Long.parseLong(header.trim());
+            } catch (NumberFormatException ex) {
+                throw new InvalidQueryParameterException(TIMEOUT_HEADER + " muss eine Zahl in Millisekunden sein");
+            }
+            if (requested <= 0) {
+                // Der Client hat schon aufgegeben, gar nicht erst anfangen
+                throw new DeadlineExceededException("Deadline bereits vor Beginn abgelaufen");
+            }
+            timeoutMillis = Math.min(timeoutMillis, requested);
+        }
+        RequestDeadline.set(timeoutMillis);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestDeadline.clear();
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Bei async Requests wird afterCompletion im Request-Thread nicht aufgerufen
+        RequestDeadline.clear();
+    }
+}
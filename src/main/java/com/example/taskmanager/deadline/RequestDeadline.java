@@ -0,0 +1,66 @@
+package com.example.taskmanager.deadline;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deadline des aktuellen Requests als ThreadLocal (System.nanoTime-Basis).
+ * Gesetzt vom DeadlineInterceptor, gelesen vom DeadlineAwareJpaTransactionManager.
+ * Worker-Threads (Dashboard, Batch, Streaming) erben sie bewusst nicht, die haben eigene Timeouts;
+ * DashboardService und BatchService setzen ihre Budgets im Worker selbst als Deadline.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    @FunctionalInterface
+    public interface Action<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    private RequestDeadline() {
+    }
+
+    public static void set(long timeoutMillis) {
+        DEADLINE.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+    }
+
+    public static void clear() {
+        DEADLINE.remove();
+    }
+
+    public static boolean isSet() {
+        return DEADLINE.get() != null;
+    }
+
+    /**
+     * Führt {@code action} mit einer Deadline von höchstens {@code timeoutMillis} ab jetzt aus, eine schon
+     * kürzere Deadline des Threads bleibt bestehen. Danach gilt wieder die vorherige.
+     */
+    public static <T, E extends Exception> T callWithin(long timeoutMillis, Action<T, E> action) throws E {
+        Long previous = DEADLINE.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        if (previous == null || deadline - previous < 0) {
+            DEADLINE.set(deadline);
+        }
+        try {
+            return action.call();
+        } finally {
+            if (previous == null) {
+                DEADLINE.remove();
+            } else {
+                DEADLINE.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return verbleibende Millisekunden (<= 0 wenn abgelaufen) oder Long.MAX_VALUE ohne Deadline
+     */
+    public static long remainingMillis() {
+        Long deadline = DEADLINE.get();
+        if (deadline == null) {
+            return Long.MAX_VALUE;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.taskmanager.deadline;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Zeitbudget eines Endpoints, ersetzt app.deadline.default-timeout.
+ * Ein Client kann es per X-Request-Timeout nur verkürzen, nicht verlängern.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequestTimeout {
+
+    long millis();
+}
@@ -0,0 +1,62 @@
+package com.example.taskmanager.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Query-Parameter für GET /api/tasks. Alle Kriterien sind optional und werden per AND verknüpft.
+ */
+@Data
+@NoArgsConstructor
+public class TaskFilter {
+
+    private Boolean completed;
+
+    private Long categoryId;
+
+    private String keyword;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdAfter;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdBefore;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedAfter;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedBefore;
+
+    // Format: "feld" oder "feld,asc|desc", z.B. "createdAt,desc"
+    private String sort;
+
+    public static TaskFilter completed(boolean completed) {
+        TaskFilter filter = new TaskFilter();
+        filter.setCompleted(completed);
+        return filter;
+    }
+
+    public static TaskFilter keyword(String keyword) {
+        TaskFilter filter = new TaskFilter();
+        filter.setKeyword(keyword);
+        return filter;
+    }
+
+    public boolean isEmpty() {
+        return !hasCriteria() && sort == null;
+    }
+
+    /**
+     * Ob mindestens ein Kriterium die Treffer einschränkt. {@code sort} zählt nicht, ein Filter nur mit
+     * Sortierung passt auf alle Tasks des Users.
+     */
+    public boolean hasCriteria() {
+        return completed != null || categoryId != null || keyword != null
+                || createdAfter != null || createdBefore != null
+                || updatedAfter != null || updatedBefore != null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskRollupBucketDTO {
+    // Erster Tag des Zeitraums (Tag, Montag der Woche bzw. Monatserster)
+    private LocalDate periodStart;
+    // Nur bei byCategory=true gesetzt, null = ohne Kategorie
+    private Long categoryId;
+    private long created;
+    private long completed;
+}
@@ -0,0 +1,19 @@
+package com.example.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsResponseDTO {
+    private long total;
+    private long completed;
+    private long open;
+    private long uncategorized;
+    // Category-ID -> Anzahl Tasks
+    private Map<Long, Long> byCategory;
+}
@@ -0,0 +1,16 @@
+package com.example.taskmanager.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryUsageDTO {
+    // null = ohne Kategorie
+    private Long categoryId;
+    private long tasks;
+    private long completed;
+    private double completionRate;
+}
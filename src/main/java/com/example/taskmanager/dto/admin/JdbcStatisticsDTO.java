@@ -0,0 +1,19 @@
+package com.example.taskmanager.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JdbcStatisticsDTO {
+    private Instant since;
+    private long requests;
+    private double meanStatementsPerRequest;
+    private long maxStatementsPerRequest;
+    private List<StatementStatsDTO> topStatements;
+}
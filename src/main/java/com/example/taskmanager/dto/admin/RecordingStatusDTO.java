@@ -0,0 +1,19 @@
+package com.example.taskmanager.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordingStatusDTO {
+    private long id;
+    private String state;
+    private String settings;
+    private Instant startTime;
+    private Instant stopTime;
+    private long sizeBytes;
+}
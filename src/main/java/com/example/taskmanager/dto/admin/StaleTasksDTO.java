@@ -0,0 +1,26 @@
+package com.example.taskmanager.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StaleTasksDTO {
+    private int olderThanDays;
+    private long staleOpenTasks;
+    private long affectedUsers;
+    // Die User mit den meisten liegengebliebenen Tasks, absteigend
+    private List<UserStaleTasks> topUsers;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UserStaleTasks {
+        private Long userId;
+        private long staleOpenTasks;
+    }
+}
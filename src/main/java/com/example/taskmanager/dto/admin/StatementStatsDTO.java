@@ -0,0 +1,21 @@
+package com.example.taskmanager.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatementStatsDTO {
+    private String shape;
+    private long count;
+    private double totalMillis;
+    private double meanMillis;
+    private double p50Millis;
+    private double p95Millis;
+    private double p99Millis;
+    private double maxMillis;
+    // Requests, in denen die Form öfter als app.jdbc.n-plus-one-threshold lief
+    private long suspectedNPlusOneRequests;
+}
@@ -0,0 +1,20 @@
+package com.example.taskmanager.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskOverviewDTO {
+    private Instant snapshotBuiltAt;
+    private long snapshotBuildMillis;
+    private long tasks;
+    private long completed;
+    private double completionRate;
+    private long users;
+    private long categories;
+}
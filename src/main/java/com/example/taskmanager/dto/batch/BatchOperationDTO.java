@@ -0,0 +1,25 @@
+package com.example.taskmanager.dto.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Eine Teil-Anfrage im Batch, z.B. method=POST, path=/api/tasks, body={"title": "..."}.
+ * Query-Parameter stehen URL-kodiert im path.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOperationDTO {
+
+    @NotBlank(message = "Method darf nicht leer sein")
+    private String method;
+
+    @NotBlank(message = "Path darf nicht leer sein")
+    private String path;
+
+    private JsonNode body;
+}
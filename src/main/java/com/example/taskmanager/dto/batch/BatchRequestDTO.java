@@ -0,0 +1,24 @@
+package com.example.taskmanager.dto.batch;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequestDTO {
+
+    // true: alle Operationen in einer Transaktion, beim ersten Fehler wird alles zurückgerollt
+    private boolean atomic;
+
+    @NotEmpty(message = "Operations darf nicht leer sein")
+    @Size(max = 100, message = "Ein Batch darf maximal 100 Operationen enthalten")
+    @Valid
+    private List<BatchOperationDTO> operations;
+}
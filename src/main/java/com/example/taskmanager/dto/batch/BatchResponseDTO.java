@@ -0,0 +1,19 @@
+package com.example.taskmanager.dto.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponseDTO {
+
+    // Nur bei atomic=true relevant: true, wenn nichts von dem Batch gespeichert wurde
+    private boolean rolledBack;
+
+    // In derselben Reihenfolge wie die Operationen im Request
+    private List<BatchResultDTO> results;
+}
@@ -0,0 +1,17 @@
+package com.example.taskmanager.dto.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Ergebnis einer Teil-Anfrage. {@code status} ist der HTTP-Status, den der Einzelaufruf geliefert hätte,
+ * {@code body} die Antwort bzw. eine ErrorResponse.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResultDTO {
+    private int status;
+    private Object body;
+}
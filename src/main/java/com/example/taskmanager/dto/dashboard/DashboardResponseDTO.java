@@ -0,0 +1,21 @@
+package com.example.taskmanager.dto.dashboard;
+
+import com.example.taskmanager.dto.CategoryResponseDTO;
+import com.example.taskmanager.dto.TaskResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardResponseDTO {
+    private DashboardSectionDTO<UserProfileDTO> profile;
+    private DashboardSectionDTO<List<TaskResponseDTO>> tasks;
+    private DashboardSectionDTO<List<TaskResponseDTO>> completedTasks;
+    private DashboardSectionDTO<List<CategoryResponseDTO>> categories;
+    // Gesamtdauer, sollte ungefähr dem langsamsten Zweig entsprechen
+    private long durationMs;
+}
@@ -0,0 +1,30 @@
+package com.example.taskmanager.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Ergebnis eines Dashboard-Zweigs. Bei FAILED/TIMEOUT ist {@code data} null und {@code error} gesetzt,
+ * die übrigen Zweige werden trotzdem ausgeliefert.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardSectionDTO<T> {
+
+    public enum Status { OK, FAILED, TIMEOUT }
+
+    private Status status;
+    private T data;
+    private String error;
+    private long durationMs;
+
+    public static <T> DashboardSectionDTO<T> ok(T data, long durationMs) {
+        return new DashboardSectionDTO<>(Status.OK, data, null, durationMs);
+    }
+
+    public static <T> DashboardSectionDTO<T> failed(Status status, String error, long durationMs) {
+        return new DashboardSectionDTO<>(status, null, error, durationMs);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.taskmanager.dto.dashboard;
+
+import com.example.taskmanager.model.Role;
+import com.example.taskmanager.model.User;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProfileDTO {
+    private Long id;
+    private String username;
+    private String email;
+    private Role role;
+    private LocalDateTime createdAt;
+
+    public static UserProfileDTO of(User user) {
+        return new UserProfileDTO(user.getId(), user.getUsername(), user.getEmail(), user.getRole(), user.getCreatedAt());
+    }
+}
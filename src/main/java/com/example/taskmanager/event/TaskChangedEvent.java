@@ -0,0 +1,49 @@
+package com.example.taskmanager.event;
+
+import com.example.taskmanager.model.Task;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Wird von TaskService/CategoryService nach jeder Änderung an Tasks veröffentlicht.
+ * {@code before}/{@code after} sind {@code null} bei Create bzw. Delete.
+ * Bei Bulk-Operationen sind beide {@code null}, die Listener müssen dann neu zählen:
+ * für {@code userId}, bei Kategorie-Operationen eingeschränkt auf {@code categoryIds}
+ * ({@code null} in der Liste = ohne Kategorie). {@code userId == null} betrifft alle User.
+ */
+public record TaskChangedEvent(Long userId, TaskState before, TaskState after, List<Long> categoryIds) {
+
+    public record TaskState(Long categoryId, boolean completed, LocalDateTime createdAt, LocalDateTime updatedAt,
+                            LocalDateTime completedAt) {
+
+        public static TaskState of(Task task) {
+            return new TaskState(task.getCategory() != null ? task.getCategory().getId() : null,
+                    task.isCompleted(), task.getCreatedAt(), task.getUpdatedAt(), task.getCompletedAt());
+        }
+    }
+
+    public static TaskChangedEvent created(Task task) {
+        return new TaskChangedEvent(task.getUser().getId(), null, TaskState.of(task), null);
+    }
+
+    public static TaskChangedEvent updated(TaskState before, Task task) {
+        return new TaskChangedEvent(task.getUser().getId(), before, TaskState.of(task), null);
+    }
+
+    public static TaskChangedEvent deleted(Task task) {
+        return new TaskChangedEvent(task.getUser().getId(), TaskState.of(task), null, null);
+    }
+
+    public static TaskChangedEvent bulk(Long userId) {
+        return new TaskChangedEvent(userId, null, null, null);
+    }
+
+    public static TaskChangedEvent bulkCategories(Long userId, List<Long> categoryIds) {
+        return new TaskChangedEvent(userId, null, null, categoryIds);
+    }
+
+    public boolean isBulk() {
+        return before == null && after == null;
+    }
+}
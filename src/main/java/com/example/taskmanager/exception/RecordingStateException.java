@@ -0,0 +1,8 @@
+package com.example.taskmanager.exception;
+
+public class RecordingStateException extends RuntimeException {
+
+    public RecordingStateException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.taskmanager.grpc;
+
+import com.example.taskmanager.dto.CategoryRequestDTO;
+import com.example.taskmanager.grpc.proto.CategoryIdRequest;
+import com.example.taskmanager.grpc.proto.CategoryRequest;
+import com.example.taskmanager.grpc.proto.CategoryResponse;
+import com.example.taskmanager.grpc.proto.CategoryServiceGrpc;
+import com.example.taskmanager.grpc.proto.UpdateCategoryRequest;
+import com.example.taskmanager.service.CategoryService;
+import com.google.protobuf.Empty;
+import io.grpc.stub.StreamObserver;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CategoryGrpcService extends CategoryServiceGrpc.CategoryServiceImplBase {
+
+    private final CategoryService categoryService;
+    private final GrpcMapper grpcMapper;
+    private final GrpcExceptionTranslator exceptionTranslator;
+
+    public CategoryGrpcService(CategoryService categoryService, GrpcMapper grpcMapper, GrpcExceptionTranslator exceptionTranslator) {
+        this.categoryService = categoryService;
+        this.grpcMapper = grpcMapper;
+        this.exceptionTranslator = exceptionTranslator;
+    }
+
+    @Override
+    public void listCategories(Empty request, StreamObserver<CategoryResponse> responseObserver) {
+        try {
+            categoryService.getAllCategories()
+                    .forEach(category -> responseObserver.onNext(grpcMapper.toProto(category)));
+            responseObserver.onCompleted();
+        } catch (Exception ex) {
+            responseObserver.onError(exceptionTranslator.translate(ex));
+        }
+    }
+
+    @Override
+    public void getCategory(CategoryIdRequest request, StreamObserver<CategoryResponse> responseObserver) {
+        try {
+            responseObserver.onNext(grpcMapper.toProto(categoryService.getCategoryById(request.getId())));
+            responseObserver.onCompleted();
+        } catch (Exception ex) {
+            responseObserver.onError(exceptionTranslator.translate(ex));
+        }
+    }
+
+    @Override
+    public void createCategory(CategoryRequest request, StreamObserver<CategoryResponse> responseObserver) {
+        try {
+            CategoryRequestDTO requestDTO = exceptionTranslator.validate(grpcMapper.toDTO(request));
+            responseObserver.onNext(grpcMapper.toProto(categoryService.createCategory(requestDTO)));
+            responseObserver.onCompleted();
+        } catch (Exception ex) {
+            responseObserver.onError(exceptionTranslator.translate(ex));
+        }
+    }
+
+    @Override
+    public void updateCategory(UpdateCategoryRequest request, StreamObserver<CategoryResponse> responseObserver) {
+        try {
+            CategoryRequestDTO requestDTO = exceptionTranslator.validate(grpcMapper.toDTO(request.getCategory()));
+            responseObserver.onNext(grpcMapper.toProto(categoryService.updateCategory(request.getId(), requestDTO)));
+            responseObserver.onCompleted();
+        } catch (Exception ex) {
+            responseObserver.onError(exceptionTranslator.translate(ex));
+        }
+    }
+
+    @Override
+    public void deleteCategory(CategoryIdRequest request, StreamObserver<Empty> responseObserver) {
+        try {
+            categoryService.deleteCategory(request.getId());
+            responseObserver.onNext(Empty.getDefaultInstance());
+            responseObserver.onCompleted();
+        } catch (Exception ex) {
+            responseObserver.onError(exceptionTranslator.translate(ex));
+        }
+    }
+}
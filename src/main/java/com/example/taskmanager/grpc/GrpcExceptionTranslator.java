@@ -0,0 +1,56 @@
+package com.example.taskmanager.grpc;
+
+import com.example.taskmanager.exception.CategoryNotFoundException;
+import com.example.taskmanager.exception.TaskNotFoundException;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Übersetzt die Exceptions der Services in gRPC-Status-Codes,
+ * analog zum GlobalExceptionHandler der REST-API.
+ */
+@Component
+public class GrpcExceptionTranslator {
+
+    private static final Logger log = LoggerFactory.getLogger(GrpcExceptionTranslator.class);
+
+    private final Validator validator;
+
+    public GrpcExceptionTranslator(Validator validator) {
+        this.validator = validator;
+    }
+
+    public <T> T validate(T dto) {
+        Set<ConstraintViolation<T>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return dto;
+    }
+
+    public StatusRuntimeException translate(Exception ex) {
+        if (ex instanceof StatusRuntimeException statusException) {
+            return statusException;
+        }
+        if (ex instanceof TaskNotFoundException || ex instanceof CategoryNotFoundException) {
+            return Status.NOT_FOUND.withDescription(ex.getMessage()).asRuntimeException();
+        }
+        if (ex instanceof ConstraintViolationException violationException) {
+            String message = violationException.getConstraintViolations().stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .collect(Collectors.joining(", "));
+            return Status.INVALID_ARGUMENT.withDescription("Validierung fehlgeschlagen: " + message).asRuntimeException();
+        }
+        log.error("gRPC call failed", ex);
+        return Status.INTERNAL.withDescription("Ein interner Fehler ist aufgetreten").asRuntimeException();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.taskmanager.grpc;
+
+import com.example.taskmanager.dto.CategoryRequestDTO;
+import com.example.taskmanager.dto.CategoryResponseDTO;
+import com.example.taskmanager.dto.TaskRequestDTO;
+import com.example.taskmanager.dto.TaskResponseDTO;
+import com.example.taskmanager.grpc.proto.CategoryRequest;
+import com.example.taskmanager.grpc.proto.CategoryResponse;
+import com.example.taskmanager.grpc.proto.TaskRequest;
+import com.example.taskmanager.grpc.proto.TaskResponse;
+import com.google.protobuf.Timestamp;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.ZoneId;
+
+@Component
+public class GrpcMapper {
+
+    public TaskRequestDTO toDTO(TaskRequest request) {
+        return new TaskRequestDTO(
+                request.getTitle(),
+                request.hasDescription() ? request.getDescription() : null,
+                request.getCompleted(),
+                request.hasCategoryId() ? request.getCategoryId() : null
+        );
+    }
+
+    public TaskResponse toProto(TaskResponseDTO dto) {
+        TaskResponse.Builder builder = TaskResponse.newBuilder()
+                .setId(dto.getId())
+                .setTitle(dto.getTitle())
+                .setCompleted(dto.isCompleted());
+
+        if (dto.getDescription() != null) {
+            builder.setDescription(dto.getDescription());
+        }
+        if (dto.getCreatedAt() != null) {
+            Instant createdAt = dto.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant();
+            builder.setCreatedAt(Timestamp.newBuilder()
+                    .setSeconds(createdAt.getEpochSecond())
+                    .setNanos(createdAt.getNano()));
+        }
+        if (dto.getCategoryName() != null) {
+            builder.setCategoryName(dto.getCategoryName());
+        }
+        return builder.build();
+    }
+
+    public CategoryRequestDTO toDTO(CategoryRequest request) {
+        return new CategoryRequestDTO(
+                request.getName(),
+                request.hasDescription() ? request.getDescription() : null
+        );
+    }
+
+    public CategoryResponse toProto(CategoryResponseDTO dto) {
+        CategoryResponse.Builder builder = CategoryResponse.newBuilder()
+                .setId(dto.getId())
+                .setName(dto.getName())
+                .setTaskCount(dto.getTaskCount());
+
+        if (dto.getDescription() != null) {
+            builder.setDescription(dto.getDescription());
+        }
+        return builder.build();
+    }
+}
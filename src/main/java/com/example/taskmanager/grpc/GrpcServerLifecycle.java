@@ -0,0 +1,78 @@
+package com.example.taskmanager.grpc;
+
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startet den gRPC-Server auf einem eigenen Port, sobald der REST-Webserver läuft.
+ * In MockMvc-Tests gibt es keinen echten Webserver, dort bleibt auch gRPC aus.
+ * Standardmäßig aus und nur auf localhost: der Port spricht Klartext (kein TLS) und läuft an den
+ * Servlet-Filtern vorbei, also ohne Rate-Limit, Concurrency-Limit, Fair Scheduling und Request-Deadline.
+ * Geprüft wird nur der JWT (JwtServerInterceptor); nach außen nur hinter einem Proxy mit TLS und eigenen Limits.
+ */
+@Component
+public class GrpcServerLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(GrpcServerLifecycle.class);
+
+    private final TaskGrpcService taskGrpcService;
+    private final CategoryGrpcService categoryGrpcService;
+    private final JwtServerInterceptor jwtServerInterceptor;
+
+    // Zur Laufzeit statt per @ConditionalOnProperty, mit AOT würde die Bedingung schon beim Build ausgewertet
+    @Value("${grpc.server.enabled:false}")
+    private boolean enabled;
+
+    @Value("${grpc.server.port:9090}")
+    private int port;
+
+    @Value("${grpc.server.address:127.0.0.1}")
+    private String address;
+
+    private Server server;
+
+    public GrpcServerLifecycle(TaskGrpcService taskGrpcService,
+                               CategoryGrpcService categoryGrpcService,
+                               JwtServerInterceptor jwtServerInterceptor) {
+        this.taskGrpcService = taskGrpcService;
+        this.categoryGrpcService = categoryGrpcService;
+        this.jwtServerInterceptor = jwtServerInterceptor;
+    }
+
+    @EventListener
+    public void onWebServerInitialized(WebServerInitializedEvent event) {
+        if (!enabled || server != null) {
+            return;
+        }
+        try {
+            server = NettyServerBuilder.forAddress(new InetSocketAddress(address, port))
+                    .addService(ServerInterceptors.intercept(taskGrpcService, jwtServerInterceptor))
+                    .addService(ServerInterceptors.intercept(categoryGrpcService, jwtServerInterceptor))
+                    .build()
+                    .start();
+            log.info("gRPC server started on {}:{}", address, server.getPort());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("gRPC server konnte nicht gestartet werden", ex);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (server != null) {
+            server.shutdown().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+}
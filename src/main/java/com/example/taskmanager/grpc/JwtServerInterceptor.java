@@ -0,0 +1,101 @@
+package com.example.taskmanager.grpc;
+
+import com.example.taskmanager.security.CustomUserDetailsService;
+import com.example.taskmanager.security.JwtTokenProvider;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * gRPC-Gegenstück zum JwtAuthenticationFilter: liest den Token aus der Metadata "authorization"
+ * und setzt den SecurityContext für jeden Listener-Callback des Calls.
+ */
+@Component
+public class JwtServerInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final CustomUserDetailsService customUserDetailsService;
+
+    public JwtServerInterceptor(JwtTokenProvider jwtTokenProvider,
+                                CustomUserDetailsService customUserDetailsService) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.customUserDetailsService = customUserDetailsService;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call,
+                                                                 Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        Authentication authentication = authenticate(headers.get(AUTHORIZATION));
+        if (authentication == null) {
+            call.close(Status.UNAUTHENTICATED.withDescription("Gültiger Bearer-Token erforderlich"), new Metadata());
+            return new ServerCall.Listener<>() {};
+        }
+
+        // Callbacks eines Calls können auf unterschiedlichen Threads laufen
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(next.startCall(call, headers)) {
+            @Override
+            public void onMessage(ReqT message) {
+                runAuthenticated(() -> super.onMessage(message));
+            }
+
+            @Override
+            public void onHalfClose() {
+                runAuthenticated(super::onHalfClose);
+            }
+
+            @Override
+            public void onCancel() {
+                runAuthenticated(super::onCancel);
+            }
+
+            @Override
+            public void onComplete() {
+                runAuthenticated(super::onComplete);
+            }
+
+            @Override
+            public void onReady() {
+                runAuthenticated(super::onReady);
+            }
+
+            private void runAuthenticated(Runnable callback) {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                try {
+                    callback.run();
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            }
+        };
+    }
+
+    private Authentication authenticate(String bearerToken) {
+        if (!StringUtils.hasText(bearerToken) || !bearerToken.startsWith("Bearer ")) {
+            return null;
+        }
+        String jwt = bearerToken.substring(7);
+        if (!jwtTokenProvider.validateToken(jwt)) {
+            return null;
+        }
+        try {
+            UserDetails userDetails = customUserDetailsService.loadUserByUsername(jwtTokenProvider.getUsernameFromToken(jwt));
+            return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        } catch (UsernameNotFoundException ex) {
+            return null;
+        }
+    }
+}
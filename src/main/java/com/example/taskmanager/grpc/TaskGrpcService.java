@@ -0,0 +1,190 @@
+package com.example.taskmanager.grpc;
+
+import com.example.taskmanager.dto.TaskRequestDTO;
+import com.example.taskmanager.dto.TaskResponseDTO;
+import com.example.taskmanager.grpc.proto.BulkCreateTasksResponse;
+import com.example.taskmanager.grpc.proto.CategoryIdRequest;
+import com.example.taskmanager.grpc.proto.ListTasksRequest;
+import com.example.taskmanager.grpc.proto.TaskIdRequest;
+import com.example.taskmanager.grpc.proto.TaskRequest;
+import com.example.taskmanager.grpc.proto.TaskResponse;
+import com.example.taskmanager.grpc.proto.TaskServiceGrpc;
+import com.example.taskmanager.grpc.proto.UpdateTaskRequest;
+import com.example.taskmanager.model.User;
+import com.example.taskmanager.service.TaskService;
+import com.google.protobuf.Empty;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class TaskGrpcService extends TaskServiceGrpc.TaskServiceImplBase {
+
+    private static final int STREAM_CHUNK_SIZE = 500;
+
+    private final TaskService taskService;
+    private final GrpcMapper grpcMapper;
+    private final GrpcExceptionTranslator exceptionTranslator;
+    // BulkCreateTasks puffert bis zum Stream-Ende, ohne Obergrenze könnte ein Client den Heap füllen
+    private final int maxBulkMessages;
+
+    public TaskGrpcService(TaskService taskService, GrpcMapper grpcMapper, GrpcExceptionTranslator exceptionTranslator,
+                           @Value("${grpc.server.max-bulk-messages:1000}") int maxBulkMessages) {
+        this.taskService = taskService;
+        this.grpcMapper = grpcMapper;
+        this.exceptionTranslator = exceptionTranslator;
+        this.maxBulkMessages = maxBulkMessages;
+    }
+
+    @Override
+    public void listTasks(ListTasksRequest request, StreamObserver<TaskResponse> responseObserver) {
+        try {
+            if (request.hasKeyword()) {
+                send(taskService.searchTasks(request.getKeyword()), responseObserver);
+            } else if (request.getCompletedOnly()) {
+                send(taskService.getCompletedTasks(), responseObserver);
+            } else {
+                // Wie /api/tasks/stream seitenweise lesen, statt alle Tasks auf einmal zu laden
+                User user = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+                long lastId = 0;
+                List<TaskResponseDTO> chunk;
+                do {
+                    chunk = taskService.getTasksAfter(user, lastId, STREAM_CHUNK_SIZE);
+                    for (TaskResponseDTO task : chunk) {
+                        responseObserver.onNext(grpcMapper.toProto(task));
+                        lastId = task.getId();
+                    }
+                } while (chunk.size() == STREAM_CHUNK_SIZE);
+            }
+            responseObserver.onCompleted();
+        } catch (Exception ex) {
+            responseObserver.onError(exceptionTranslator.translate(ex));
+        }
+    }
+
+    @Override
+    public void listTasksByCategory(CategoryIdRequest request, StreamObserver<TaskResponse> responseObserver) {
+        try {
+            // Keyset statt OFFSET: sonst liest jede weitere Seite alle vorherigen noch einmal
+            long lastId = 0;
+            List<TaskResponseDTO> chunk;
+            do {
+                chunk = taskService.getTasksByCategoryAfter(request.getId(), lastId, STREAM_CHUNK_SIZE);
+                send(chunk, responseObserver);
+                if (!chunk.isEmpty()) {
+                    lastId = chunk.getLast().getId();
+                }
+            } while (chunk.size() == STREAM_CHUNK_SIZE);
+            responseObserver.onCompleted();
+        } catch (Exception ex) {
+            responseObserver.onError(exceptionTranslator.translate(ex));
+        }
+    }
+
+    @Override
+    public void getTask(TaskIdRequest request, StreamObserver<TaskResponse> responseObserver) {
+        try {
+            responseObserver.onNext(grpcMapper.toProto(taskService.getTaskById(request.getId())));
+            responseObserver.onCompleted();
+        } catch (Exception ex) {
+            responseObserver.onError(exceptionTranslator.translate(ex));
+        }
+    }
+
+    @Override
+    public void createTask(TaskRequest request, StreamObserver<TaskResponse> responseObserver) {
+        try {
+            TaskRequestDTO requestDTO = exceptionTranslator.validate(grpcMapper.toDTO(request));
+            responseObserver.onNext(grpcMapper.toProto(taskService.createTask(requestDTO)));
+            responseObserver.onCompleted();
+        } catch (Exception ex) {
+            responseObserver.onError(exceptionTranslator.translate(ex));
+        }
+    }
+
+    @Override
+    public void updateTask(UpdateTaskRequest request, StreamObserver<TaskResponse> responseObserver) {
+        try {
+            TaskRequestDTO requestDTO = exceptionTranslator.validate(grpcMapper.toDTO(request.getTask()));
+            responseObserver.onNext(grpcMapper.toProto(taskService.updateTask(request.getId(), requestDTO)));
+            responseObserver.onCompleted();
+        } catch (Exception ex) {
+            responseObserver.onError(exceptionTranslator.translate(ex));
+        }
+    }
+
+    @Override
+    public void deleteTask(TaskIdRequest request, StreamObserver<Empty> responseObserver) {
+        try {
+            taskService.deleteTask(request.getId());
+            responseObserver.onNext(Empty.getDefaultInstance());
+            responseObserver.onCompleted();
+        } catch (Exception ex) {
+            responseObserver.onError(exceptionTranslator.translate(ex));
+        }
+    }
+
+    @Override
+    public StreamObserver<TaskRequest> bulkCreateTasks(StreamObserver<BulkCreateTasksResponse> responseObserver) {
+        return new StreamObserver<>() {
+
+            private final List<TaskRequestDTO> requests = new ArrayList<>();
+            private boolean failed;
+
+            @Override
+            public void onNext(TaskRequest request) {
+                if (failed) {
+                    return;
+                }
+                if (requests.size() >= maxBulkMessages) {
+                    fail(Status.RESOURCE_EXHAUSTED
+                            .withDescription("Maximal " + maxBulkMessages + " Tasks pro BulkCreateTasks")
+                            .asRuntimeException());
+                    return;
+                }
+                try {
+                    requests.add(exceptionTranslator.validate(grpcMapper.toDTO(request)));
+                } catch (Exception ex) {
+                    fail(exceptionTranslator.translate(ex));
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                requests.clear();
+            }
+
+            // Weitere Nachrichten des Clients werden danach verworfen
+            private void fail(RuntimeException status) {
+                failed = true;
+                requests.clear();
+                responseObserver.onError(status);
+            }
+
+            @Override
+            public void onCompleted() {
+                if (failed) {
+                    return;
+                }
+                try {
+                    // Alle Tasks in einer Transaktion anlegen: ganz oder gar nicht
+                    BulkCreateTasksResponse.Builder response = BulkCreateTasksResponse.newBuilder();
+                    taskService.createTasks(requests).forEach(task -> response.addTasks(grpcMapper.toProto(task)));
+                    responseObserver.onNext(response.build());
+                    responseObserver.onCompleted();
+                } catch (Exception ex) {
+                    responseObserver.onError(exceptionTranslator.translate(ex));
+                }
+            }
+        };
+    }
+
+    private void send(List<TaskResponseDTO> tasks, StreamObserver<TaskResponse> responseObserver) {
+        tasks.forEach(task -> responseObserver.onNext(grpcMapper.toProto(task)));
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.taskmanager.jdbc;
+
+import com.example.taskmanager.jfr.JdbcQueryEvent;
+import com.example.taskmanager.timing.RequestTimings;
+import com.example.taskmanager.timing.RequestTimings.Phase;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.BitSet;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Instrumentiert die execute*-Aufrufe aller Statements: Dauer und Anzahl gebundener Parameter gehen
+ * an die StatementStatistics, dazu Phase db für Server-Timing und, während eine JFR-Aufnahme läuft,
+ * ein JdbcQueryEvent mit SQL-Form und Zeilenzahl. Connections, Statements und (nur bei aktivem Event)
+ * ResultSets werden per JDK-Proxy umhüllt, alles andere geht unverändert an den Pool. unwrap bleibt
+ * über DelegatingDataSource möglich, Actuator-Metriken des Hikari-Pools funktionieren also weiter.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private final StatementStatistics statistics;
+
+    public InstrumentedDataSource(DataSource target, StatementStatistics statistics) {
+        super(target);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            // prepareStatement/prepareCall bekommen das SQL vorab, createStatement erst bei execute
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+            if (result instanceof CallableStatement statement) {
+                return proxy(CallableStatement.class, new StatementHandler(statement, sql));
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, new StatementHandler(statement, sql));
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, new StatementHandler(statement, sql));
+            }
+            return result;
+        });
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        // Belegte Parameter-Indizes, für das Slow-Query-Log
+        private final BitSet parameters = new BitSet();
+        private String sql;
+
+        private StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    parameters.set(index);
+                } else if (name.equals("clearParameters")) {
+                    parameters.clear();
+                } else if (name.equals("addBatch") && args != null && args.length == 1) {
+                    sql = (String) args[0];
+                }
+                return InstrumentedDataSource.invoke(target, method, args);
+            }
+            if (args != null && args.length > 0 && args[0] instanceof String s) {
+                sql = s;
+            }
+
+            String shape = SqlShape.of(sql);
+            JdbcQueryEvent event = new JdbcQueryEvent();
+            event.begin();
+            long start = System.nanoTime();
+            Object result;
+            RequestTimings.enter(Phase.DB);
+            try {
+                result = InstrumentedDataSource.invoke(target, method, args);
+            } finally {
+                RequestTimings.exit(Phase.DB);
+                // Auch fehlgeschlagene Statements (z.B. Query-Timeout) zählen
+                statistics.record(shape, System.nanoTime() - start, parameters.cardinality());
+            }
+            if (!event.isEnabled()) {
+                return result;
+            }
+            event.setSql(shape);
+            if (result instanceof ResultSet resultSet) {
+                // Zeilen erst beim Schließen bekannt, dort wird das Event geschrieben
+                return proxy(ResultSet.class, new CountingResultSetHandler(resultSet, event));
+            }
+            event.setRows(rows(result));
+            event.commit();
+            return result;
+        }
+
+        private static long rows(Object result) {
+            return switch (result) {
+                case Integer count -> count;
+                case Long count -> count;
+                case int[] counts -> IntStream.of(counts).filter(count -> count >= 0).asLongStream().sum();
+                case long[] counts -> LongStream.of(counts).filter(count -> count >= 0).sum();
+                case null, default -> -1;
+            };
+        }
+    }
+
+    private static final class CountingResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final JdbcQueryEvent event;
+        private long rows;
+        private boolean committed;
+
+        private CountingResultSetHandler(ResultSet target, JdbcQueryEvent event) {
+            this.target = target;
+            this.event = event;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            switch (method.getName()) {
+                case "next" -> {
+                    if (Boolean.TRUE.equals(result)) {
+                        rows++;
+                    }
+                }
+                case "close" -> {
+                    if (!committed) {
+                        committed = true;
+                        event.setRows(rows);
+                        event.commit();
+                    }
+                }
+                default -> {
+                }
+            }
+            return result;
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    // Identität des Proxys, nicht des umhüllten Objekts
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> handler.invoke(proxy, method, args);
+                }));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.taskmanager.jdbc;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Umhüllt die DataSource mit der InstrumentedDataSource (Statement-Statistik, Server-Timing, JFR-Events).
+ * Mit app.jdbc.instrumentation.enabled=false bleibt sie unverändert.
+ */
+@Component
+public class InstrumentedDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final boolean enabled;
+    // Erst beim Umhüllen auflösen, ein BeanPostProcessor darf keine normalen Beans früh erzeugen
+    private final ObjectProvider<StatementStatistics> statistics;
+
+    // Environment statt @Value, BeanPostProcessors entstehen vor der übrigen Konfiguration
+    public InstrumentedDataSourcePostProcessor(Environment environment, ObjectProvider<StatementStatistics> statistics) {
+        this.enabled = environment.getProperty("app.jdbc.instrumentation.enabled", Boolean.class, true);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (enabled && bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+            return new InstrumentedDataSource(dataSource, statistics.getObject());
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.taskmanager.jdbc;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-freies Latenz-Histogramm mit festen, exponentiellen Buckets (50 µs, 100 µs, 200 µs ... ~26 s).
+ * Perzentile sind die Obergrenze des Buckets, in den sie fallen, also auf Faktor 2 genau.
+ * Das reicht, um "meist 1 ms, manchmal 400 ms" zu erkennen, und kostet pro Messung nur zwei LongAdder.
+ */
+public class LatencyHistogram {
+
+    private static final long FIRST_BUCKET_NANOS = 50_000;
+    private static final int BUCKETS = 20;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        buckets[bucketOf(nanos)].increment();
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long maxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * @param quantile zwischen 0 und 1, z.B. 0.95
+     * @return Obergrenze des Buckets in Nanosekunden, für den letzten (offenen) Bucket das Maximum
+     */
+    public long percentileNanos(double quantile) {
+        long[] snapshot = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            snapshot[i] = buckets[i].sum();
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), maxNanos());
+            }
+        }
+        return maxNanos();
+    }
+
+    private static int bucketOf(long nanos) {
+        if (nanos <= FIRST_BUCKET_NANOS) {
+            return 0;
+        }
+        // Index der Zweierpotenz über FIRST_BUCKET_NANOS, aufgerundet
+        int bucket = 64 - Long.numberOfLeadingZeros((nanos - 1) / FIRST_BUCKET_NANOS);
+        return Math.min(bucket, BUCKETS);
+    }
+
+    private static long upperBound(int bucket) {
+        return FIRST_BUCKET_NANOS << bucket;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.taskmanager.jdbc;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Normalisiert SQL zu seiner Form: Literale werden zu ?, IN-Listen zu (?...), Whitespace zu einem
+ * Leerzeichen. Statements, die sich nur in Werten unterscheiden, haben so dieselbe Form.
+ * Hibernate bindet Parameter ohnehin, es gibt also nur wenige verschiedene SQL-Strings; die
+ * Ergebnisse werden deshalb bis MAX_CACHED Einträge gemerkt.
+ */
+public final class SqlShape {
+
+    private static final int MAX_CACHED = 2_000;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private SqlShape() {
+    }
+
+    public static String of(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String shape = CACHE.get(sql);
+        if (shape != null) {
+            return shape;
+        }
+        shape = normalize(sql);
+        // Ohne Parameter-Binding wäre jedes Statement neu, dann lieber nicht mehr cachen
+        if (CACHE.size() < MAX_CACHED) {
+            CACHE.put(sql, shape);
+        }
+        return shape;
+    }
+
+    static String normalize(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
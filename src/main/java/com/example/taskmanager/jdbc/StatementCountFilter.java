@@ -0,0 +1,49 @@
+package com.example.taskmanager.jdbc;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Klammert jeden /api-Request für die Statement-Zählung der StatementStatistics,
+ * inklusive des User-Lookups der JWT-Prüfung.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 15)
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    // Ohne instrumentierte DataSource (z.B. in Web-Slice-Tests) gibt es nichts zu zählen
+    private final ObjectProvider<StatementStatistics> statistics;
+
+    public StatementCountFilter(ObjectProvider<StatementStatistics> statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        StatementStatistics current = statistics.getIfAvailable();
+        if (current == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        current.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            current.endRequest(request.getMethod(), request.getRequestURI());
+        }
+    }
+}
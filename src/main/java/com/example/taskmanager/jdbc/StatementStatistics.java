@@ -0,0 +1,153 @@
+package com.example.taskmanager.jdbc;
+
+import com.example.taskmanager.dto.admin.JdbcStatisticsDTO;
+import com.example.taskmanager.dto.admin.StatementStatsDTO;
+import com.example.taskmanager.exception.InvalidQueryParameterException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statement-Statistik der InstrumentedDataSource: Latenz-Histogramm pro SQL-Form, Anzahl Statements
+ * pro Request, N+1-Verdacht (dieselbe SELECT-Form mindestens n-plus-one-threshold Mal in einem
+ * Request) und ein Log für langsame Statements. Werte von Parametern werden nie geloggt, nur ihre Anzahl.
+ * Pro Request gezählt wird nur auf dem Request-Thread, Worker-Threads (Dashboard, Batch) landen
+ * nur in den Histogrammen.
+ */
+@Component
+public class StatementStatistics {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementStatistics.class);
+
+    // Ohne Parameter-Binding entstünde pro Wert eine neue Form, darüber wird zusammengefasst
+    private static final int MAX_SHAPES = 1_000;
+    private static final String OTHER_SHAPES = "(weitere Formen)";
+    private static final int MAX_TOP = 100;
+
+    private static final ThreadLocal<Map<String, Integer>> REQUEST = new ThreadLocal<>();
+
+    private final long slowThresholdNanos;
+    private final int nPlusOneThreshold;
+    private final Map<String, ShapeStats> shapes = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder statementsInRequests = new LongAdder();
+    private final LongAccumulator maxPerRequest = new LongAccumulator(Math::max, 0);
+    private final DistributionSummary perRequestSummary;
+    private volatile Instant since = Instant.now();
+
+    public StatementStatistics(ObjectProvider<MeterRegistry> meterRegistry,
+                               @Value("${app.jdbc.slow-query-threshold:PT0.2S}") Duration slowQueryThreshold,
+                               @Value("${app.jdbc.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        this.slowThresholdNanos = slowQueryThreshold.toNanos();
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        this.perRequestSummary = registry == null ? null : DistributionSummary.builder("jdbc.statements.per-request")
+                .description("JDBC-Statements pro /api-Request")
+                .register(registry);
+    }
+
+    public void record(String shape, long nanos, int parameters) {
+        ShapeStats stats = shapes.get(shape);
+        if (stats == null) {
+            String key = shapes.size() < MAX_SHAPES ? shape : OTHER_SHAPES;
+            stats = shapes.computeIfAbsent(key, k -> new ShapeStats());
+        }
+        stats.latency.record(nanos);
+
+        Map<String, Integer> request = REQUEST.get();
+        if (request != null) {
+            request.merge(shape, 1, Integer::sum);
+        }
+        if (nanos >= slowThresholdNanos) {
+            log.warn("slow_query duration_ms={} parameters={} shape={}", millis(nanos), parameters, shape);
+        }
+    }
+
+    public void beginRequest() {
+        REQUEST.set(new HashMap<>());
+    }
+
+    public void endRequest(String method, String path) {
+        Map<String, Integer> request = REQUEST.get();
+        REQUEST.remove();
+        if (request == null) {
+            return;
+        }
+        int total = 0;
+        for (Map.Entry<String, Integer> entry : request.entrySet()) {
+            total += entry.getValue();
+            if (entry.getValue() >= nPlusOneThreshold && entry.getKey().regionMatches(true, 0, "select", 0, 6)) {
+                ShapeStats stats = shapes.get(entry.getKey());
+                if (stats != null) {
+                    stats.nPlusOneRequests.increment();
+                }
+                log.warn("n_plus_one method={} path={} count={} shape={}", method, path, entry.getValue(), entry.getKey());
+            }
+        }
+        requests.increment();
+        statementsInRequests.add(total);
+        maxPerRequest.accumulate(total);
+        if (perRequestSummary != null) {
+            perRequestSummary.record(total);
+        }
+    }
+
+    public JdbcStatisticsDTO top(int limit) {
+        if (limit < 1 || limit > MAX_TOP) {
+            throw new InvalidQueryParameterException("limit muss zwischen 1 und " + MAX_TOP + " liegen");
+        }
+        List<StatementStatsDTO> top = shapes.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, ShapeStats> entry) -> entry.getValue().latency.totalNanos()).reversed())
+                .limit(limit)
+                .map(entry -> toDTO(entry.getKey(), entry.getValue()))
+                .toList();
+        long requestCount = requests.sum();
+        double mean = requestCount == 0 ? 0.0 : (double) statementsInRequests.sum() / requestCount;
+        return new JdbcStatisticsDTO(since, requestCount, mean, maxPerRequest.get(), top);
+    }
+
+    public void reset() {
+        shapes.clear();
+        requests.reset();
+        statementsInRequests.reset();
+        maxPerRequest.reset();
+        since = Instant.now();
+    }
+
+    private static StatementStatsDTO toDTO(String shape, ShapeStats stats) {
+        LatencyHistogram latency = stats.latency;
+        long count = latency.count();
+        return new StatementStatsDTO(shape, count,
+                millis(latency.totalNanos()),
+                count == 0 ? 0.0 : millis(latency.totalNanos() / count),
+                millis(latency.percentileNanos(0.5)),
+                millis(latency.percentileNanos(0.95)),
+                millis(latency.percentileNanos(0.99)),
+                millis(latency.maxNanos()),
+                stats.nPlusOneRequests.sum());
+    }
+
+    // Auf Mikrosekunden gerundet
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    private static final class ShapeStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder nPlusOneRequests = new LongAdder();
+    }
+}
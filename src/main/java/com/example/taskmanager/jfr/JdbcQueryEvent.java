@@ -0,0 +1,34 @@
+package com.example.taskmanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Ein JDBC-Statement. Bei Abfragen reicht die Dauer bis zum Schließen des ResultSets,
+ * enthält also auch das Abholen der Zeilen. Mit Stacktrace, damit N+1-Aufrufer zu finden sind.
+ */
+@Name("com.example.taskmanager.JdbcQuery")
+@Label("JDBC Query")
+@Category({"Task Manager", "Database"})
+@Description("Ausgeführtes SQL-Statement mit normalisierter Form und Zeilenzahl")
+public class JdbcQueryEvent extends Event {
+
+    @Label("SQL")
+    @Description("SQL mit Literalen und IN-Listen als Platzhalter")
+    String sql;
+
+    @Label("Rows")
+    @Description("Gelesene bzw. geänderte Zeilen, -1 wenn unbekannt")
+    long rows = -1;
+
+    public void setSql(String sql) {
+        this.sql = sql;
+    }
+
+    public void setRows(long rows) {
+        this.rows = rows;
+    }
+}
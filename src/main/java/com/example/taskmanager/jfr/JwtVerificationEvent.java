@@ -0,0 +1,34 @@
+package com.example.taskmanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Eine Signatur- und Ablaufprüfung eines JWT.
+ */
+@Name("com.example.taskmanager.JwtVerification")
+@Label("JWT Verification")
+@Category({"Task Manager", "Security"})
+@Description("Prüfung eines Bearer-Tokens")
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+    @Label("Valid")
+    boolean valid;
+
+    @Label("Failure")
+    @Description("Grund der Ablehnung, leer bei gültigem Token")
+    String failure;
+
+    public void setValid(boolean valid) {
+        this.valid = valid;
+    }
+
+    public void setFailure(String failure) {
+        this.failure = failure;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.taskmanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Ein Aufruf einer öffentlichen Methode von TaskService oder AuthService, inklusive Commit.
+ */
+@Name("com.example.taskmanager.ServiceCall")
+@Label("Service Call")
+@Category({"Task Manager", "Service"})
+@Description("Aufruf einer Service-Methode")
+@StackTrace(false)
+public class ServiceCallEvent extends Event {
+
+    @Label("Service")
+    String service;
+
+    @Label("Method")
+    String method;
+
+    @Label("Failed")
+    @Description("Methode hat mit einer Exception geendet")
+    boolean failed;
+}
@@ -0,0 +1,56 @@
+package com.example.taskmanager.jfr;
+
+import com.example.taskmanager.service.AuthService;
+import com.example.taskmanager.service.TaskService;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.MethodMatcher;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcher;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Set;
+
+/**
+ * Schreibt für jede öffentliche Methode von TaskService und AuthService ein ServiceCallEvent.
+ * Das Advice kommt vor die vorhandenen (z.B. @Transactional), der Commit zählt also mit.
+ * Ohne laufende JFR-Aufnahme bleibt es bei einem isEnabled-Check pro Aufruf.
+ */
+@Component
+public class ServiceCallEventPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    private static final Set<Class<?>> SERVICES = Set.of(TaskService.class, AuthService.class);
+
+    public ServiceCallEventPostProcessor() {
+        ClassFilter services = SERVICES::contains;
+        MethodMatcher publicMethods = new StaticMethodMatcher() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+            }
+        };
+        MethodInterceptor interceptor = invocation -> {
+            ServiceCallEvent event = new ServiceCallEvent();
+            if (!event.isEnabled()) {
+                return invocation.proceed();
+            }
+            event.begin();
+            try {
+                return invocation.proceed();
+            } catch (Throwable ex) {
+                event.failed = true;
+                throw ex;
+            } finally {
+                event.service = invocation.getMethod().getDeclaringClass().getSimpleName();
+                event.method = invocation.getMethod().getName();
+                event.commit();
+            }
+        };
+        this.advisor = new DefaultPointcutAdvisor(new ComposablePointcut(services, publicMethods), interceptor);
+        setBeforeExistingAdvisors(true);
+    }
+}
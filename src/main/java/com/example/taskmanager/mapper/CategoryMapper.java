@@ -15,12 +15,13 @@ public class CategoryMapper {
         return category;
     }
 
-    public CategoryResponseDTO toResponseDTO(Category category){
+    // taskCount kommt per Count-Query vom Aufrufer, category.getTasks() würde die ganze Collection laden
+    public CategoryResponseDTO toResponseDTO(Category category, long taskCount){
         return new CategoryResponseDTO(
                 category.getId(),
                 category.getName(),
                 category.getDescription(),
-                category.getTasks() != null ? category.getTasks().size() : 0
+                Math.toIntExact(taskCount)
         );
     }
 }
@@ -26,7 +26,8 @@ public class Category {
     @Column(length = 500)
     private String description;
 
-    @OneToMany(mappedBy = "category", cascade = CascadeType.ALL, orphanRemoval = true)
+    // Kein Cascade: Löschen/Zusammenführen läuft set-basiert über TaskRepository, ohne die Tasks zu laden
+    @OneToMany(mappedBy = "category")
     @JsonManagedReference
     private List<Task> tasks = new ArrayList<>();
 }
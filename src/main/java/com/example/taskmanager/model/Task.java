@@ -34,6 +34,10 @@ public class Task {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Nur gesetzt, solange der Task erledigt ist; die Rollups zählen Erledigungen an diesem Tag
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     @JsonBackReference
@@ -47,6 +51,19 @@ public class Task {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        if (completed && completedAt == null) {
+            completedAt = createdAt;
+        }
+    }
+
+    // Nur der Wechsel offen -> erledigt setzt completedAt, weitere Änderungen lassen es stehen
+    public void setCompleted(boolean completed) {
+        if (completed && !this.completed) {
+            completedAt = LocalDateTime.now();
+        } else if (!completed) {
+            completedAt = null;
+        }
+        this.completed = completed;
     }
 
     @PreUpdate
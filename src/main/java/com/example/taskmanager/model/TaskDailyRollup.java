@@ -0,0 +1,32 @@
+package com.example.taskmanager.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Vorberechnete Tageswerte pro User und Kategorie. Wird nur über TaskDailyRollupRepository
+ * (inkrementelles MERGE bzw. Rebuild) geschrieben, nie über das Entity selbst.
+ */
+@Entity
+@Table(name = "task_daily_rollups")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDailyRollup {
+
+    public static final long NO_CATEGORY = 0L;
+
+    @EmbeddedId
+    private TaskDailyRollupId id;
+
+    @Column(name = "created_count", nullable = false)
+    private long createdCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private long completedCount;
+}
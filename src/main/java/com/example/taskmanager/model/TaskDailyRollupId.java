@@ -0,0 +1,27 @@
+package com.example.taskmanager.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDailyRollupId implements Serializable {
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "bucket_date")
+    private LocalDate bucketDate;
+
+    // 0 = ohne Kategorie
+    @Column(name = "category_id")
+    private Long categoryId;
+}
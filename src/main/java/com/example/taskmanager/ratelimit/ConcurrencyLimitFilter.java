@@ -0,0 +1,131 @@
+package com.example.taskmanager.ratelimit;
+
+import com.example.taskmanager.dto.ErrorResponse;
+import com.example.taskmanager.ratelimit.ConcurrencyLimiter.Permit;
+import com.example.taskmanager.ratelimit.ConcurrencyLimiter.Priority;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Lastabwurf vor dem ganzen Stack: läuft vor Spring Security, damit bei Überlast auch die
+ * JWT-Prüfung (User-Lookup in der DB) nicht mehr anläuft. Abgewiesene Requests bekommen sofort 503.
+ * Solange ein Request im FairSchedulingFilter auf seinen Slot wartet, zählt sein Permit nicht mit.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitFilter.class.getName() + ".permit";
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final ConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitFilter(ObjectMapper objectMapper,
+                                  ObjectProvider<MeterRegistry> meterRegistry,
+                                  @Value("${app.concurrency-limit.enabled:true}") boolean enabled,
+                                  @Value("${app.concurrency-limit.initial-limit:20}") int initialLimit,
+                                  @Value("${app.concurrency-limit.min-limit:4}") int minLimit,
+                                  @Value("${app.concurrency-limit.max-limit:200}") int maxLimit,
+                                  @Value("${app.concurrency-limit.latency-threshold:PT0.5S}") Duration latencyThreshold,
+                                  @Value("${app.concurrency-limit.backoff-ratio:0.9}") double backoffRatio) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.limiter = new ConcurrencyLimiter(initialLimit, minLimit, maxLimit, latencyThreshold.toNanos(), backoffRatio);
+        meterRegistry.ifAvailable(this::registerMetrics);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Actuator, Swagger und H2-Konsole sollen auch unter Last erreichbar bleiben
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Permit permit = limiter.tryAcquire(priorityOf(request));
+        if (permit == null) {
+            reject(request, response);
+            return;
+        }
+        // Der FairSchedulingFilter nimmt wartende Requests damit aus in-flight heraus
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // Streaming/async: der Request läuft noch, freigegeben wird erst an seinem Ende. Seine Dauer
+                // hängt am Client und würde das Limit bis auf min-limit drücken, deshalb ohne Messung
+                request.getAsyncContext().addListener(new ReleaseOnAsyncCompletion(permit::releaseWithoutSample));
+            } else {
+                // Die Wartezeit im FairSchedulingFilter ist keine Serverzeit
+                permit.release(FairSchedulingFilter.waitNanos(request));
+            }
+        }
+    }
+
+    // null, wenn der Filter für den Request nicht aktiv ist
+    static Permit permit(HttpServletRequest request) {
+        return request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit ? permit : null;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                "Server ausgelastet, bitte später erneut versuchen",
+                request.getRequestURI()
+        );
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader("Retry-After", "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private static Priority priorityOf(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (path.startsWith("/api/auth/")) {
+            return Priority.HIGH;
+        }
+        if (path.equals("/api/tasks/search") || path.equals("/api/tasks/stream") || path.startsWith("/api/batch")
+                || path.startsWith("/api/admin/") || (path.equals("/api/tasks") && request.getParameter("keyword") != null)) {
+            return Priority.LOW;
+        }
+        return HttpMethod.GET.matches(request.getMethod()) ? Priority.HIGH : Priority.NORMAL;
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        Gauge.builder("http.server.concurrency.limit", limiter, ConcurrencyLimiter::getLimit)
+                .description("Aktuelles adaptives Limit gleichzeitiger Requests")
+                .register(registry);
+        Gauge.builder("http.server.concurrency.in-flight", limiter, ConcurrencyLimiter::getInFlight)
+                .description("Laufende Requests unter dem Limit")
+                .register(registry);
+        for (Priority priority : Priority.values()) {
+            FunctionCounter.builder("http.server.concurrency.rejected", limiter, l -> l.getRejected(priority))
+                    .description("Wegen Überlast mit 503 abgewiesene Requests")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.taskmanager.ratelimit;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Adaptives Limit für gleichzeitig laufende Requests (AIMD wie bei TCP):
+ * solange die Latenz unter dem Schwellwert bleibt und das Limit ausgeschöpft wird, wächst es um
+ * ungefähr 1 pro Limit-viele Requests; ein zu langsamer Request senkt es um den Faktor backoffRatio.
+ * Requests über dem Limit werden sofort abgewiesen statt in Tomcats Queue zu warten.
+ * Niedrigere Prioritäten dürfen nur einen Teil des Limits belegen und werden daher zuerst abgewiesen.
+ * Gemessen wird nur Serverzeit: Wartezeiten lassen sich herausrechnen, Streams geben ohne Messung frei.
+ * Wartet ein Request auf einen fairen Slot, zählt er so lange nicht als in-flight (suspend/resume).
+ */
+public class ConcurrencyLimiter {
+
+    public enum Priority {
+        // Login und günstige Lesezugriffe dürfen das ganze Limit nutzen
+        HIGH(1.0),
+        NORMAL(0.9),
+        // Suche, Export, Batch: werden bei Last als Erstes abgewiesen
+        LOW(0.5);
+
+        private final double share;
+
+        Priority(double share) {
+            this.share = share;
+        }
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final LongSupplier clock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<Priority, LongAdder> rejected = new EnumMap<>(Priority.class);
+    private volatile double limit;
+    // Samples von Requests, die vor der letzten Absenkung gestartet sind, senken nicht noch einmal
+    private long lastDecreaseNanos;
+
+    public ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos, double backoffRatio) {
+        this(initialLimit, minLimit, maxLimit, latencyThresholdNanos, backoffRatio, System::nanoTime);
+    }
+
+    ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos, double backoffRatio,
+                       LongSupplier clock) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Erwartet 1 <= minLimit <= initialLimit <= maxLimit und 0 < backoffRatio < 1");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        this.clock = clock;
+        this.lastDecreaseNanos = clock.getAsLong();
+        for (Priority priority : Priority.values()) {
+            rejected.put(priority, new LongAdder());
+        }
+    }
+
+    /**
+     * @return ein Permit, das nach dem Request genau einmal freigegeben werden muss, oder null bei Überlast
+     */
+    public Permit tryAcquire(Priority priority) {
+        if (!enter(priority)) {
+            return null;
+        }
+        return new Permit(priority, clock.getAsLong());
+    }
+
+    private boolean enter(Priority priority) {
+        int allowed = Math.max(1, (int) (limit * priority.share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                rejected.get(priority).increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // latencyNanos < 0: nur freigeben, ohne das Limit anzupassen
+    private void onRelease(long startNanos, long latencyNanos) {
+        long now = clock.getAsLong();
+        int running = inFlight.getAndDecrement();
+        if (latencyNanos < 0) {
+            return;
+        }
+
+        synchronized (this) {
+            if (latencyNanos > latencyThresholdNanos) {
+                if (startNanos - lastDecreaseNanos > 0) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecreaseNanos = now;
+                }
+            } else if (running * 2 >= limit) {
+                // Nur wachsen, wenn das Limit auch genutzt wird, sonst läuft es im Leerlauf bis maxLimit
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected(Priority priority) {
+        return rejected.get(priority).sum();
+    }
+
+    public final class Permit {
+
+        private final Priority priority;
+        private final long startNanos;
+        // Nur unter dem Monitor des Permits
+        private boolean released;
+        private boolean suspended;
+
+        private Permit(Priority priority, long startNanos) {
+            this.priority = priority;
+            this.startNanos = startNanos;
+        }
+
+        public long elapsedNanos() {
+            return clock.getAsLong() - startNanos;
+        }
+
+        // Idempotent: bei async Requests können Filter und AsyncListener beide freigeben
+        public void release() {
+            release(0);
+        }
+
+        /**
+         * Gibt frei und misst nur die Serverzeit: excludedNanos (z.B. Wartezeit in einer Queue) zählt nicht
+         * zur Latenz, sonst senkt jede Wartephase das Limit, obwohl der Server gar nicht langsam war.
+         */
+        public synchronized void release(long excludedNanos) {
+            if (markReleased()) {
+                onRelease(startNanos, Math.max(0, elapsedNanos() - excludedNanos));
+            }
+        }
+
+        // Für Requests, deren Dauer nichts über die Last aussagt (Streams, die so lange laufen wie der Client liest)
+        public synchronized void releaseWithoutSample() {
+            if (markReleased()) {
+                onRelease(startNanos, -1);
+            }
+        }
+
+        /**
+         * Nimmt den Request vorübergehend aus in-flight heraus, solange er nur wartet (FairSchedulingFilter).
+         * Sonst belegen die wartenden Requests eines einzelnen Users das ganze Limit und alle anderen
+         * bekommen 503, bevor die faire Verteilung überhaupt greift.
+         */
+        public synchronized void suspend() {
+            if (!released && !suspended) {
+                suspended = true;
+                inFlight.decrementAndGet();
+            }
+        }
+
+        /**
+         * Zählt den Request nach dem Warten wieder mit, sofern das Limit es zulässt.
+         *
+         * @return false bei Überlast; das Permit ist dann freigegeben
+         */
+        public synchronized boolean resume() {
+            if (released) {
+                return false;
+            }
+            if (!suspended) {
+                return true;
+            }
+            if (!enter(priority)) {
+                released = true;
+                return false;
+            }
+            suspended = false;
+            return true;
+        }
+
+        // true, wenn noch in-flight mitgezählt und damit freizugeben ist
+        private boolean markReleased() {
+            if (released) {
+                return false;
+            }
+            released = true;
+            return !suspended;
+        }
+    }
+}
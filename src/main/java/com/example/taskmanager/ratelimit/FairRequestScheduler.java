@@ -0,0 +1,239 @@
+package com.example.taskmanager.ratelimit;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Vergibt eine feste Zahl von Slots gerecht über User (Deficit Round Robin).
+ * Jeder User hat eine eigene FIFO-Warteschlange und darf höchstens perUserLimit Slots gleichzeitig
+ * belegen. Wird ein Slot frei, kommt der nächste User im Ring dran; pro Runde bekommt ein User so viele
+ * Slots wie sein Gewicht. Ein User mit vielen wartenden Requests kann andere also nicht aushungern.
+ * Der ganze Zustand hängt an einem ReentrantLock, gehalten wird er nur für ein paar Queue-Operationen.
+ */
+public class FairRequestScheduler {
+
+    private final int maxConcurrent;
+    private final int perUserLimit;
+    private final int maxQueuedPerUser;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Object, UserQueue> queues = new HashMap<>();
+    // Ring der User mit wartenden Requests, der Kopf ist gerade an der Reihe
+    private final Deque<UserQueue> active = new ArrayDeque<>();
+    private int running;
+    private int queued;
+
+    public FairRequestScheduler(int maxConcurrent, int perUserLimit, int maxQueuedPerUser) {
+        if (maxConcurrent < 1 || perUserLimit < 1 || maxQueuedPerUser < 0) {
+            throw new IllegalArgumentException("maxConcurrent und perUserLimit müssen >= 1 sein");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.perUserLimit = perUserLimit;
+        this.maxQueuedPerUser = maxQueuedPerUser;
+    }
+
+    /**
+     * Reiht einen Request ein. Ist sofort ein Slot frei, ist das Ticket schon vergeben.
+     *
+     * @return das Ticket oder null, wenn die Warteschlange des Users voll ist
+     */
+    public Ticket enqueue(Object userKey, int weight) {
+        lock.lock();
+        try {
+            UserQueue queue = queues.computeIfAbsent(userKey, key -> new UserQueue(key, Math.max(1, weight)));
+            // Wartet der User schon, stellt er sich hinten an, sonst würde er seine eigene Queue überholen
+            if (running < maxConcurrent && queue.running < perUserLimit && queue.waiting.isEmpty()) {
+                Ticket ticket = new Ticket(queue, null);
+                grant(queue, ticket);
+                return ticket;
+            }
+            if (queue.waiting.size() >= maxQueuedPerUser) {
+                removeIfIdle(queue);
+                return null;
+            }
+            Ticket ticket = new Ticket(queue, lock.newCondition());
+            if (queue.waiting.isEmpty()) {
+                // Als Erster im Ring bekommt er sofort sein Quantum, sonst bei seinem nächsten Zug
+                queue.deficit = active.isEmpty() ? queue.weight : 0;
+                active.addLast(queue);
+            }
+            queue.waiting.addLast(ticket);
+            queued++;
+            return ticket;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wartet, bis das Ticket einen Slot bekommt.
+     *
+     * @return false bei Timeout; das Ticket ist dann aus der Warteschlange entfernt
+     */
+    public boolean await(Ticket ticket, long timeoutNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = timeoutNanos;
+            while (!ticket.granted) {
+                if (remaining <= 0) {
+                    cancel(ticket);
+                    return false;
+                }
+                try {
+                    remaining = ticket.condition.awaitNanos(remaining);
+                } catch (InterruptedException ex) {
+                    if (!ticket.granted) {
+                        cancel(ticket);
+                    } else {
+                        release(ticket);
+                    }
+                    throw ex;
+                }
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getRunning() {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(Ticket ticket) {
+        lock.lock();
+        try {
+            if (!ticket.granted || ticket.released) {
+                return;
+            }
+            ticket.released = true;
+            running--;
+            ticket.queue.running--;
+            // Ein freier Slot kann auch einen User freischalten, der nur an seinem perUserLimit hing
+            dispatch();
+            removeIfIdle(ticket.queue);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void dispatch() {
+        while (running < maxConcurrent && !active.isEmpty()) {
+            if (!serveNext()) {
+                return;
+            }
+        }
+    }
+
+    // Deficit Round Robin: der Kopf bedient, solange er Guthaben hat, danach rückt der nächste nach
+    private boolean serveNext() {
+        // Jeder User, der nicht am perUserLimit hängt, hat nach einer Drehung Guthaben >= 1,
+        // also ist nach höchstens zwei Runden klar, ob überhaupt jemand dran sein kann
+        for (int visits = 0; visits <= active.size() * 2; visits++) {
+            UserQueue head = active.peekFirst();
+            if (head.deficit >= 1 && head.running < perUserLimit) {
+                Ticket ticket = head.waiting.pollFirst();
+                queued--;
+                head.deficit--;
+                if (head.waiting.isEmpty()) {
+                    // Kein Guthaben ansparen, wer nichts mehr wartet, startet beim nächsten Mal neu
+                    active.pollFirst();
+                    head.deficit = 0;
+                }
+                grant(head, ticket);
+                ticket.condition.signal();
+                return true;
+            }
+            active.addLast(active.pollFirst());
+            UserQueue next = active.peekFirst();
+            if (next.running < perUserLimit) {
+                next.deficit += next.weight;
+            }
+        }
+        return false;
+    }
+
+    private void grant(UserQueue queue, Ticket ticket) {
+        ticket.granted = true;
+        running++;
+        queue.running++;
+    }
+
+    private void cancel(Ticket ticket) {
+        UserQueue queue = ticket.queue;
+        if (queue.waiting.remove(ticket)) {
+            queued--;
+            if (queue.waiting.isEmpty()) {
+                active.remove(queue);
+                queue.deficit = 0;
+            }
+        }
+        removeIfIdle(queue);
+    }
+
+    private void removeIfIdle(UserQueue queue) {
+        if (queue.running == 0 && queue.waiting.isEmpty()) {
+            queues.remove(queue.key);
+        }
+    }
+
+    private static final class UserQueue {
+
+        private final Object key;
+        private final int weight;
+        private final Deque<Ticket> waiting = new ArrayDeque<>();
+        private int running;
+        private int deficit;
+
+        private UserQueue(Object key, int weight) {
+            this.key = key;
+            this.weight = weight;
+        }
+    }
+
+    public final class Ticket {
+
+        private final UserQueue queue;
+        private final Condition condition;
+        private boolean granted;
+        private boolean released;
+
+        private Ticket(UserQueue queue, Condition condition) {
+            this.queue = queue;
+            this.condition = condition;
+        }
+
+        public boolean isGranted() {
+            lock.lock();
+            try {
+                return granted;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Idempotent, gibt den Slot an den nächsten User im Ring weiter
+        public void release() {
+            FairRequestScheduler.this.release(this);
+        }
+    }
+}
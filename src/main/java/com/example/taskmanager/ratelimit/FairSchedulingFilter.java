@@ -0,0 +1,149 @@
+package com.example.taskmanager.ratelimit;
+
+import com.example.taskmanager.dto.ErrorResponse;
+import com.example.taskmanager.model.Role;
+import com.example.taskmanager.model.User;
+import com.example.taskmanager.ratelimit.ConcurrencyLimiter.Permit;
+import com.example.taskmanager.ratelimit.FairRequestScheduler.Ticket;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Lässt authentifizierte /api-Requests nur über den FairRequestScheduler in die Controller:
+ * höchstens max-concurrent gleichzeitig, pro User höchstens per-user-limit, freie Slots reihum
+ * gewichtet nach Rolle. Läuft im Security-Chain nach dem RateLimitFilter, der User steht also fest.
+ * Ein Slot gilt nur, bis der Handler zurückkehrt; async weiterlaufende Arbeit hält ihn nicht.
+ */
+@Component
+public class FairSchedulingFilter extends OncePerRequestFilter {
+
+    // Wie lange der Request auf seinen Slot gewartet hat, für den ConcurrencyLimitFilter
+    private static final String WAIT_NANOS_ATTRIBUTE = FairSchedulingFilter.class.getName() + ".waitNanos";
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long maxWaitNanos;
+    private final FairRequestScheduler scheduler;
+    private final Map<Role, Integer> weights = new EnumMap<>(Role.class);
+
+    public FairSchedulingFilter(ObjectMapper objectMapper,
+                                ObjectProvider<MeterRegistry> meterRegistry,
+                                Environment environment,
+                                @Value("${app.fair-scheduling.enabled:true}") boolean enabled,
+                                @Value("${app.fair-scheduling.max-concurrent:10}") int maxConcurrent,
+                                @Value("${app.fair-scheduling.per-user-limit:4}") int perUserLimit,
+                                @Value("${app.fair-scheduling.max-queued-per-user:50}") int maxQueuedPerUser,
+                                @Value("${app.fair-scheduling.max-wait:PT5S}") Duration maxWait) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.scheduler = new FairRequestScheduler(maxConcurrent, perUserLimit, maxQueuedPerUser);
+        // app.fair-scheduling.weights.<rolle>, fehlende Rollen haben Gewicht 1
+        for (Role role : Role.values()) {
+            weights.put(role, environment.getProperty(
+                    "app.fair-scheduling.weights." + role.name().toLowerCase(), Integer.class, 1));
+        }
+        meterRegistry.ifAvailable(this::registerMetrics);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/") || request.getRequestURI().startsWith("/api/auth/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User user)) {
+            // Anonyme Requests scheitern ohnehin an der Autorisierung und sind per IP gedrosselt
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Ticket ticket = scheduler.enqueue(user.getId(), weights.get(user.getRole()));
+        if (ticket == null) {
+            reject(request, response, HttpStatus.TOO_MANY_REQUESTS, "Zu viele gleichzeitige Anfragen für diesen User");
+            return;
+        }
+        // Muss der Request warten, belegt er solange keinen Platz im adaptiven Limit: sonst verdrängen die
+        // geparkten Requests eines einzelnen Users alle anderen schon im ConcurrencyLimitFilter
+        Permit permit = ticket.isGranted() ? null : ConcurrencyLimitFilter.permit(request);
+        if (permit != null) {
+            permit.suspend();
+        }
+        long waitStart = System.nanoTime();
+        try {
+            boolean admitted = scheduler.await(ticket, maxWaitNanos);
+            request.setAttribute(WAIT_NANOS_ATTRIBUTE, System.nanoTime() - waitStart);
+            if (!admitted) {
+                reject(request, response, HttpStatus.SERVICE_UNAVAILABLE, "Server ausgelastet, bitte später erneut versuchen");
+                return;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            reject(request, response, HttpStatus.SERVICE_UNAVAILABLE, "Anfrage abgebrochen");
+            return;
+        }
+        if (permit != null && !permit.resume()) {
+            // Slot bekommen, aber das Limit ist inzwischen ausgeschöpft
+            ticket.release();
+            reject(request, response, HttpStatus.SERVICE_UNAVAILABLE, "Server ausgelastet, bitte später erneut versuchen");
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // Auch bei async Requests schon hier: ein NDJSON-Stream läuft so lange, wie der Client liest, und
+            // würde den Slot sonst die ganze Zeit belegen. Streams begrenzt stattdessen ihr eigener Pool (streamExecutor)
+            ticket.release();
+        }
+    }
+
+    static long waitNanos(HttpServletRequest request) {
+        return request.getAttribute(WAIT_NANOS_ATTRIBUTE) instanceof Long nanos ? nanos : 0;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                status.value(),
+                status.getReasonPhrase(),
+                message,
+                request.getRequestURI()
+        );
+        response.setStatus(status.value());
+        response.setHeader("Retry-After", "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        Gauge.builder("http.server.fair-scheduling.running", scheduler, FairRequestScheduler::getRunning)
+                .description("Requests mit zugeteiltem Slot")
+                .register(registry);
+        Gauge.builder("http.server.fair-scheduling.queued", scheduler, FairRequestScheduler::getQueued)
+                .description("Requests, die auf einen Slot warten")
+                .register(registry);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.taskmanager.ratelimit;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Ein Budget (capacity Requests pro period) mit je einem TokenBucket pro Schlüssel (User oder IP).
+ * Die ConcurrentHashMap ist intern gestreift, der Lookup vorhandener Buckets kommt ohne Lock aus;
+ * nur das Anlegen eines neuen Buckets sperrt kurz den betroffenen Bin.
+ */
+public class RateLimiter {
+
+    private final String name;
+    private final int capacity;
+    private final long periodNanos;
+    private final LongSupplier clock;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public RateLimiter(String name, int capacity, Duration period) {
+        this(name, capacity, period, System::nanoTime);
+    }
+
+    RateLimiter(String name, int capacity, Duration period, LongSupplier clock) {
+        this.name = name;
+        this.capacity = capacity;
+        this.periodNanos = period.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * @see TokenBucket#tryConsume(long)
+     */
+    public long tryConsume(String key) {
+        long now = clock.getAsLong();
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(capacity, periodNanos, now));
+        }
+        return bucket.tryConsume(now);
+    }
+
+    /**
+     * Entfernt volle Buckets. Ein Request, der parallel noch den alten Bucket erwischt, geht verloren;
+     * das kann höchstens ein Token zu viel erlauben und ist den Lock nicht wert.
+     */
+    public int evictIdle() {
+        long now = clock.getAsLong();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now));
+        return before - buckets.size();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
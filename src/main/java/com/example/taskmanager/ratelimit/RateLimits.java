@@ -0,0 +1,72 @@
+package com.example.taskmanager.ratelimit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Die Budgets für /api/**: default, search (LIKE-Scan) und auth. Gemeinsam genutzt vom RateLimitFilter
+ * und vom BatchService, der jede Operation eines Batches wie einen eigenen Request abrechnet.
+ */
+@Component
+public class RateLimits {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimits.class);
+
+    private final boolean enabled;
+    private final RateLimiter defaultLimiter;
+    private final RateLimiter searchLimiter;
+    private final RateLimiter authLimiter;
+
+    public RateLimits(@Value("${app.rate-limit.enabled:true}") boolean enabled,
+                      @Value("${app.rate-limit.default.capacity:120}") int defaultCapacity,
+                      @Value("${app.rate-limit.default.period:PT1M}") Duration defaultPeriod,
+                      @Value("${app.rate-limit.search.capacity:20}") int searchCapacity,
+                      @Value("${app.rate-limit.search.period:PT1M}") Duration searchPeriod,
+                      @Value("${app.rate-limit.auth.capacity:10}") int authCapacity,
+                      @Value("${app.rate-limit.auth.period:PT1M}") Duration authPeriod) {
+        this.enabled = enabled;
+        this.defaultLimiter = new RateLimiter("default", defaultCapacity, defaultPeriod);
+        this.searchLimiter = new RateLimiter("search", searchCapacity, searchPeriod);
+        this.authLimiter = new RateLimiter("auth", authCapacity, authPeriod);
+    }
+
+    // Schlüssel eines angemeldeten Users, anonyme Requests zählen pro IP (siehe RateLimitFilter)
+    public static String userKey(String username) {
+        return "user:" + username;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Budget für einen Pfad unter /api/**. {@code hasKeyword}: der Request hat einen keyword-Parameter.
+     */
+    public RateLimiter forPath(String path, boolean hasKeyword) {
+        if (path.startsWith("/api/auth/")) {
+            return authLimiter;
+        }
+        // GET /api/tasks?keyword=... landet im selben LIKE wie /api/tasks/search
+        boolean search = path.equals("/api/tasks/search") || (path.equals("/api/tasks") && hasKeyword);
+        return search ? searchLimiter : defaultLimiter;
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.rate-limit.eviction-interval:PT5M}",
+            fixedDelayString = "${app.rate-limit.eviction-interval:PT5M}")
+    public void evictIdleBuckets() {
+        int evicted = 0;
+        for (RateLimiter limiter : List.of(defaultLimiter, searchLimiter, authLimiter)) {
+            evicted += limiter.evictIdle();
+        }
+        if (evicted > 0) {
+            log.debug("Rate-Limit: {} volle Buckets entfernt", evicted);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.taskmanager.ratelimit;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+
+/**
+ * Gibt einen Slot erst frei, wenn ein async Request (z.B. Streaming) wirklich fertig ist,
+ * nicht schon, wenn der erste Dispatch zurückkehrt.
+ */
+record ReleaseOnAsyncCompletion(Runnable release) implements AsyncListener {
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        release.run();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        release.run();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        release.run();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+        // Bei erneutem startAsync muss der Listener neu registriert werden
+        event.getAsyncContext().addListener(this);
+    }
+}
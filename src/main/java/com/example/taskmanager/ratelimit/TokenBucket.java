@@ -0,0 +1,53 @@
+package com.example.taskmanager.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token-Bucket ohne Locks, gerechnet als GCRA: statt Tokens und letztem Refill wird nur die
+ * "theoretische Ankunftszeit" (TAT) gespeichert, also der Zeitpunkt, ab dem der Bucket wieder voll ist.
+ * Ein Request schiebt die TAT um ein Intervall nach hinten und ist erlaubt, solange sie höchstens
+ * {@code capacity} Intervalle in der Zukunft liegt. Damit passt der ganze Zustand in ein AtomicLong
+ * und ein Request ist ein einziger CAS.
+ * Zeiten sind Nanosekunden aus derselben monotonen Uhr (System.nanoTime).
+ */
+public final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(int capacity, long refillPeriodNanos, long now) {
+        if (capacity < 1 || refillPeriodNanos < capacity) {
+            throw new IllegalArgumentException("capacity muss >= 1 sein und refillPeriod >= capacity ns");
+        }
+        this.intervalNanos = refillPeriodNanos / capacity;
+        this.burstNanos = intervalNanos * capacity;
+        // TAT = jetzt: der Bucket startet voll
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    /**
+     * Versucht ein Token zu nehmen.
+     *
+     * @return die danach verbleibenden Tokens (>= 0), wenn der Request erlaubt ist,
+     *         sonst die negative Wartezeit in Nanosekunden bis zum nächsten Token
+     */
+    public long tryConsume(long now) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long excess = next - now - burstNanos;
+            if (excess > 0) {
+                return -excess;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return -excess / intervalNanos;
+            }
+        }
+    }
+
+    // Ein voller Bucket verhält sich wie ein neuer und darf verworfen werden
+    public boolean isIdle(long now) {
+        return theoreticalArrival.get() <= now;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.model.TaskDailyRollup;
+import com.example.taskmanager.model.TaskDailyRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TaskDailyRollupRepository extends JpaRepository<TaskDailyRollup, TaskDailyRollupId>, TaskDailyRollupRepositoryCustom {
+
+    // Ein Range-Scan über den Primärschlüssel (user_id, bucket_date, category_id)
+    @Query("SELECT r FROM TaskDailyRollup r WHERE r.id.userId = :userId AND r.id.bucketDate BETWEEN :from AND :to " +
+            "ORDER BY r.id.bucketDate, r.id.categoryId")
+    List<TaskDailyRollup> findRange(Long userId, LocalDate from, LocalDate to);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            merge into task_daily_rollups r
+            using (values (cast(:userId as bigint), cast(:bucketDate as date), cast(:categoryId as bigint),
+                           cast(:created as bigint), cast(:completed as bigint)))
+                as d (user_id, bucket_date, category_id, created_count, completed_count)
+            on r.user_id = d.user_id and r.bucket_date = d.bucket_date and r.category_id = d.category_id
+            when matched then update set created_count = r.created_count + d.created_count,
+                                         completed_count = r.completed_count + d.completed_count
+            when not matched then insert (user_id, bucket_date, category_id, created_count, completed_count)
+                values (d.user_id, d.bucket_date, d.category_id, d.created_count, d.completed_count)
+            """, nativeQuery = true)
+    int increment(Long userId, LocalDate bucketDate, Long categoryId, long created, long completed);
+
+    @Modifying
+    @Query("DELETE FROM TaskDailyRollup r WHERE r.id.userId = :userId")
+    int deleteByUserId(Long userId);
+}
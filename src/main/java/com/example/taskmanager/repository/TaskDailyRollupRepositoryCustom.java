@@ -0,0 +1,16 @@
+package com.example.taskmanager.repository;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+public interface TaskDailyRollupRepositoryCustom {
+
+    /**
+     * Baut die Rollups aus der tasks-Tabelle neu auf, optional beschränkt auf einen User
+     * und/oder Kategorien ({@code null} in {@code categoryIds} = ohne Kategorie).
+     * Ohne Einschränkung wird alles neu aufgebaut.
+     */
+    @Transactional
+    int rebuild(Long userId, Collection<Long> categoryIds);
+}
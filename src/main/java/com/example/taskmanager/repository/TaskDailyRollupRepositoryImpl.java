@@ -0,0 +1,87 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.model.TaskDailyRollup;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+class TaskDailyRollupRepositoryImpl implements TaskDailyRollupRepositoryCustom {
+
+    // Aggregation wie der Backfill in V3__task_daily_rollups.sql, Erledigungen seit V4 nach completed_at
+    private static final String REBUILD_SQL = """
+            insert into task_daily_rollups (user_id, bucket_date, category_id, created_count, completed_count)
+            select user_id, bucket_date, category_id, sum(created_count), sum(completed_count)
+            from (
+                select user_id, cast(created_at as date) as bucket_date, coalesce(category_id, 0) as category_id,
+                       1 as created_count, 0 as completed_count
+                from tasks
+                where %1$s
+                union all
+                select user_id, cast(coalesce(completed_at, created_at) as date), coalesce(category_id, 0), 0, 1
+                from tasks
+                where completed = true and %1$s
+            ) buckets
+            group by user_id, bucket_date, category_id
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int rebuild(Long userId, Collection<Long> categoryIds) {
+        List<String> taskConditions = new ArrayList<>();
+        List<String> rollupConditions = new ArrayList<>();
+        List<Long> taskCategoryIds = List.of();
+        List<Long> rollupCategoryIds = List.of();
+
+        if (userId != null) {
+            taskConditions.add("user_id = :userId");
+            rollupConditions.add("user_id = :userId");
+        }
+        if (categoryIds != null) {
+            taskCategoryIds = categoryIds.stream().filter(Objects::nonNull).toList();
+            rollupCategoryIds = categoryIds.stream()
+                    .map(id -> id != null ? id : TaskDailyRollup.NO_CATEGORY)
+                    .toList();
+            if (rollupCategoryIds.isEmpty()) {
+                return 0;
+            }
+
+            List<String> categoryConditions = new ArrayList<>();
+            if (!taskCategoryIds.isEmpty()) {
+                categoryConditions.add("category_id in (:categoryIds)");
+            }
+            if (categoryIds.stream().anyMatch(Objects::isNull)) {
+                categoryConditions.add("category_id is null");
+            }
+            taskConditions.add("(" + String.join(" or ", categoryConditions) + ")");
+            rollupConditions.add("category_id in (:rollupCategoryIds)");
+        }
+
+        Query delete = entityManager.createNativeQuery("delete from task_daily_rollups where " + where(rollupConditions));
+        Query insert = entityManager.createNativeQuery(REBUILD_SQL.formatted(where(taskConditions)));
+
+        if (userId != null) {
+            delete.setParameter("userId", userId);
+            insert.setParameter("userId", userId);
+        }
+        if (!rollupCategoryIds.isEmpty()) {
+            delete.setParameter("rollupCategoryIds", rollupCategoryIds);
+        }
+        if (!taskCategoryIds.isEmpty()) {
+            insert.setParameter("categoryIds", taskCategoryIds);
+        }
+
+        delete.executeUpdate();
+        return insert.executeUpdate();
+    }
+
+    private static String where(List<String> conditions) {
+        return conditions.isEmpty() ? "1 = 1" : String.join(" and ", conditions);
+    }
+}
@@ -1,28 +1,95 @@
 package com.example.taskmanager.repository;
 
+import com.example.taskmanager.dto.TaskResponseDTO;
+import com.example.taskmanager.model.Category;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
 
+    // Alles, was durch den TaskMapper geht, lädt die Category per Join mit, sonst wird sie pro Task nachgeladen (N+1)
+    @EntityGraph(attributePaths = "category")
     List<Task> findByUser(User user);
 
+    @EntityGraph(attributePaths = "category")
     List<Task> findByUserAndCompleted(User user, boolean completed);
 
+    @EntityGraph(attributePaths = "category")
     List<Task> findByUserAndTitleContainingIgnoreCase(User user, String keyword);
 
+    @EntityGraph(attributePaths = "category")
     Optional<Task> findByIdAndUser(Long id, User user);
 
     @Query("SELECT t from Task t WHERE t.user = :user AND t.completed = true ORDER BY t.createdAt DESC")
     List<Task> findCompletedTasksByUser(User user);
 
+    // Keyset-Pagination für das Streaming: nächste Seite nach der zuletzt gelieferten ID
+    @EntityGraph(attributePaths = "category")
+    List<Task> findByUserAndIdGreaterThanOrderByIdAsc(User user, Long id, Limit limit);
+
+    // Für die kombinierbaren Filter auf GET /api/tasks, Category direkt mitladen
+    @Override
+    @EntityGraph(attributePaths = "category")
+    List<Task> findAll(Specification<Task> spec, Sort sort);
+
+    // Läuft über idx_tasks_category_user, liest also nur die Tasks des Users in dieser Kategorie
+    @Query("SELECT new com.example.taskmanager.dto.TaskResponseDTO(t.id, t.title, t.description, t.completed, t.createdAt, c.name) " +
+            "FROM Task t JOIN t.category c WHERE c.id = :categoryId AND t.user = :user")
+    Slice<TaskResponseDTO> findResponsesByCategoryIdAndUser(Long categoryId, User user, Pageable pageable);
+
+    // Keyset-Variante für das Streaming per gRPC: kein OFFSET, jede Seite beginnt direkt nach afterId
+    @Query("SELECT new com.example.taskmanager.dto.TaskResponseDTO(t.id, t.title, t.description, t.completed, t.createdAt, c.name) " +
+            "FROM Task t JOIN t.category c WHERE c.id = :categoryId AND t.user = :user AND t.id > :afterId ORDER BY t.id")
+    List<TaskResponseDTO> findResponsesByCategoryIdAndUserAfter(Long categoryId, User user, Long afterId, Limit limit);
+
+    // Bulk-Operationen auf Kategorien: IDs chunkweise holen, dann set-basiert ändern.
+    // Ohne ORDER BY: sonst muss die DB bei jedem Chunk alle restlichen Treffer sortieren
+    @Query("SELECT t.id FROM Task t WHERE t.category.id = :categoryId")
+    List<Long> findIdsByCategoryId(Long categoryId, Limit limit);
+
+    // Betroffene User eines Chunks, damit Rollups und Statistik nur für diese neu gezählt werden
+    @Query("SELECT DISTINCT t.user.id FROM Task t WHERE t.id IN :ids")
+    List<Long> findUserIdsByIds(List<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteByIds(List<Long> ids);
+
+    // Aufräumen des Warm-up-Users, ohne Events und ohne die Tasks einzeln zu laden
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.user.id = :userId")
+    int deleteByUserId(Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.category = :category, t.updatedAt = :now WHERE t.id IN :ids")
+    int updateCategoryByIds(List<Long> ids, Category category, LocalDateTime now);
+
+    // Basis für TaskStatsService: eine Zeile pro (category_id, completed) mit der Anzahl
+    @Query("SELECT t.category.id, t.completed, COUNT(t) FROM Task t WHERE t.user.id = :userId GROUP BY t.category.id, t.completed")
+    List<Object[]> countByUserIdGroupedByCategoryAndCompleted(Long userId);
+
+    // taskCount der Kategorien: eine Abfrage für alle statt category.getTasks().size() pro Kategorie
+    @Query("SELECT t.category.id, COUNT(t) FROM Task t WHERE t.category IS NOT NULL GROUP BY t.category.id")
+    List<Object[]> countGroupedByCategoryId();
+
+    long countByCategoryId(Long categoryId);
+
     long countByUser(User user);
 
     long countByUserAndCompleted(User user, boolean completed);
@@ -0,0 +1,30 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.model.Category;
+import com.example.taskmanager.model.Task;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Lädt nur die angegebenen Felder (Namen wie in TaskResponseDTO).
+     * Der Join auf categories wird nur gemacht, wenn "categoryName" angefragt ist.
+     */
+    List<Map<String, Object>> findFields(Specification<Task> spec, Sort sort, List<String> fields);
+
+    /**
+     * Setzt completed für alle passenden Tasks in einem UPDATE-Statement. Zeilen, die den Zielzustand
+     * schon haben, werden nicht angefasst (updatedAt bleibt dort unverändert). completedAt wird mitgeführt.
+     */
+    int updateCompleted(Specification<Task> spec, boolean completed, LocalDateTime now);
+
+    /**
+     * Verschiebt alle passenden Tasks in einem UPDATE-Statement in {@code category} ({@code null} = ohne Kategorie).
+     */
+    int updateCategory(Specification<Task> spec, Category category, LocalDateTime now);
+}
@@ -0,0 +1,93 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.model.Category;
+import com.example.taskmanager.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findFields(Specification<Task> spec, Sort sort, List<String> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> task = query.from(Task.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : fields) {
+            if (field.equals("categoryName")) {
+                selections.add(task.join("category", JoinType.LEFT).get("name").alias(field));
+            } else {
+                selections.add(task.get(field).alias(field));
+            }
+        }
+
+        query.multiselect(selections)
+                .where(spec.toPredicate(task, query, cb))
+                .orderBy(QueryUtils.toOrders(sort.isSorted() ? sort : Sort.by("id"), task, cb));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(tuple -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    fields.forEach(field -> row.put(field, tuple.get(field)));
+                    return row;
+                })
+                .toList();
+    }
+
+    @Override
+    public int updateCompleted(Specification<Task> spec, boolean completed, LocalDateTime now) {
+        return update(spec.and(TaskSpecifications.hasCompleted(!completed)),
+                (update, task) -> {
+                    update.set(task.<Boolean>get("completed"), completed);
+                    // Wie Task.setCompleted: erledigt bekommt den Zeitpunkt, wiedereröffnet verliert ihn
+                    if (completed) {
+                        update.set(task.<LocalDateTime>get("completedAt"), now);
+                    } else {
+                        update.set(task.<LocalDateTime>get("completedAt"),
+                                entityManager.getCriteriaBuilder().nullLiteral(LocalDateTime.class));
+                    }
+                }, now);
+    }
+
+    @Override
+    public int updateCategory(Specification<Task> spec, Category category, LocalDateTime now) {
+        return update(spec, (update, task) -> update.set(task.<Category>get("category"), category), now);
+    }
+
+    // Bulk-UPDATE umgeht @PreUpdate, deshalb wird updatedAt hier explizit gesetzt
+    private int update(Specification<Task> spec, BiConsumer<CriteriaUpdate<Task>, Root<Task>> assignment, LocalDateTime now) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> task = update.from(Task.class);
+
+        assignment.accept(update, task);
+        update.set(task.<LocalDateTime>get("updatedAt"), now)
+                .where(spec.toPredicate(task, null, cb));
+
+        entityManager.flush();
+        int affected = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return affected;
+    }
+}
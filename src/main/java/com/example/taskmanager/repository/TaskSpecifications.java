@@ -0,0 +1,72 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.dto.TaskFilter;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.User;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Baut aus einem TaskFilter eine Specification. Jede Bedingung ist ein gebundener Parameter,
+ * und user_id steht immer vorne, damit die (user_id, ...)-Indizes greifen.
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> matching(User user, TaskFilter filter) {
+        Specification<Task> spec = ofUser(user);
+        if (filter.getCompleted() != null) {
+            spec = spec.and(hasCompleted(filter.getCompleted()));
+        }
+        if (filter.getCategoryId() != null) {
+            spec = spec.and(inCategory(filter.getCategoryId()));
+        }
+        if (filter.getKeyword() != null) {
+            spec = spec.and(titleContains(filter.getKeyword()));
+        }
+        if (filter.getCreatedAfter() != null) {
+            spec = spec.and(after("createdAt", filter.getCreatedAfter()));
+        }
+        if (filter.getCreatedBefore() != null) {
+            spec = spec.and(before("createdAt", filter.getCreatedBefore()));
+        }
+        if (filter.getUpdatedAfter() != null) {
+            spec = spec.and(after("updatedAt", filter.getUpdatedAfter()));
+        }
+        if (filter.getUpdatedBefore() != null) {
+            spec = spec.and(before("updatedAt", filter.getUpdatedBefore()));
+        }
+        return spec;
+    }
+
+    public static Specification<Task> ofUser(User user) {
+        return (root, query, cb) -> cb.equal(root.get("user"), user);
+    }
+
+    public static Specification<Task> hasCompleted(boolean completed) {
+        return (root, query, cb) -> cb.equal(root.get("completed"), completed);
+    }
+
+    public static Specification<Task> inCategory(Long categoryId) {
+        return (root, query, cb) -> cb.equal(root.get("category").get("id"), categoryId);
+    }
+
+    public static Specification<Task> titleContains(String keyword) {
+        String pattern = "%" + keyword.toUpperCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(cb.upper(root.get("title")), pattern, '\\');
+    }
+
+    private static Specification<Task> after(String attribute, LocalDateTime value) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(attribute), value);
+    }
+
+    private static Specification<Task> before(String attribute, LocalDateTime value) {
+        return (root, query, cb) -> cb.lessThan(root.get(attribute), value);
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.taskmanager.security;
 
+import com.example.taskmanager.timing.RequestTimings;
+import com.example.taskmanager.timing.RequestTimings.Phase;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,6 +31,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
+        RequestTimings.enter(Phase.AUTH);
         try{
             String jwt = getJwtFromRequest(request);
 
@@ -50,6 +53,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
         } catch (Exception ex) {
             logger.error("Could not set user authentication in security context", ex);
+        } finally {
+            RequestTimings.exit(Phase.AUTH);
         }
 
         filterChain.doFilter(request,response);
@@ -1,8 +1,11 @@
 package com.example.taskmanager.security;
 
+import com.example.taskmanager.jfr.JwtVerificationEvent;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -14,6 +17,8 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
 
+    private static final Logger log = LoggerFactory.getLogger(JwtTokenProvider.class);
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
@@ -49,6 +54,9 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String token) {
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        String failure;
         try {
             SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
 
@@ -57,18 +65,29 @@ public class JwtTokenProvider {
                     .build()
                     .parseSignedClaims(token);
 
+            event.setValid(true);
+            event.commit();
             return true;
         } catch (SecurityException ex) {
-            System.out.println("Invalid JWT signature");
+            failure = "Invalid JWT signature";
+            // Falsche Signatur deutet auf manipulierte oder fremde Tokens hin
+            log.warn("JWT abgelehnt: {}", failure);
         } catch (MalformedJwtException ex) {
-            System.out.println("Invalid JWT token");
+            failure = "Invalid JWT token";
+            log.warn("JWT abgelehnt: {}", failure);
         } catch (ExpiredJwtException ex) {
-            System.out.println("Expired JWT token");
+            failure = "Expired JWT token";
+            // Abgelaufene Tokens sind Alltag, nicht bei jedem Request eine Warnung
+            log.debug("JWT abgelehnt: {}", failure);
         } catch (UnsupportedJwtException ex) {
-            System.out.println("Unsupported JWT token");
+            failure = "Unsupported JWT token";
+            log.warn("JWT abgelehnt: {}", failure);
         } catch (IllegalArgumentException ex) {
-            System.out.println("JWT claims string is empty");
+            failure = "JWT claims string is empty";
+            log.debug("JWT abgelehnt: {}", failure);
         }
+        event.setFailure(failure);
+        event.commit();
         return false;
     }
 }
@@ -0,0 +1,94 @@
+package com.example.taskmanager.security;
+
+import com.example.taskmanager.dto.ErrorResponse;
+import com.example.taskmanager.ratelimit.RateLimiter;
+import com.example.taskmanager.ratelimit.RateLimits;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drosselt /api/** pro User (authentifiziert) bzw. pro IP (anonym). Läuft nach dem
+ * JwtAuthenticationFilter, damit der User schon im SecurityContext steht.
+ * Suche (LIKE-Scan) und /api/auth/** haben eigene, kleinere Budgets (siehe RateLimits);
+ * /api/auth/** zählt immer pro IP.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String RETRY_AFTER = "Retry-After";
+    private static final String REMAINING = "X-RateLimit-Remaining";
+
+    private final ObjectMapper objectMapper;
+    private final RateLimits rateLimits;
+
+    public RateLimitFilter(ObjectMapper objectMapper, RateLimits rateLimits) {
+        this.objectMapper = objectMapper;
+        this.rateLimits = rateLimits;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimits.isEnabled() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI();
+        RateLimiter limiter = rateLimits.forPath(path, request.getParameter("keyword") != null);
+        String key = path.startsWith("/api/auth/") ? clientIp(request) : clientKey(request);
+
+        long result = limiter.tryConsume(key);
+        if (result >= 0) {
+            response.setHeader(REMAINING, Long.toString(result));
+            filterChain.doFilter(request, response);
+            return;
+        }
+        reject(request, response, limiter, -result);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, RateLimiter limiter, long waitNanos) throws IOException {
+        // Auf ganze Sekunden aufrunden, Retry-After kennt keine Bruchteile
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+                "Zu viele Anfragen (Limit " + limiter.getName() + ": " + limiter.getCapacity()
+                        + "), bitte in " + retryAfterSeconds + " s erneut versuchen",
+                request.getRequestURI()
+        );
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setHeader(REMAINING, "0");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return RateLimits.userKey(authentication.getName());
+        }
+        return clientIp(request);
+    }
+
+    // Hinter einem Proxy liefert getRemoteAddr erst mit server.forward-headers-strategy die echte Client-IP
+    private static String clientIp(HttpServletRequest request) {
+        return "ip:" + request.getRemoteAddr();
+    }
+}
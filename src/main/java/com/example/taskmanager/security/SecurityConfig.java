@@ -1,5 +1,7 @@
 package com.example.taskmanager.security;
 
+import com.example.taskmanager.ratelimit.FairSchedulingFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -21,11 +23,17 @@ public class SecurityConfig {
 
     private final CustomUserDetailsService customUserDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final FairSchedulingFilter fairSchedulingFilter;
 
     public SecurityConfig(CustomUserDetailsService customUserDetailsService,
-                          JwtAuthenticationFilter jwtAuthenticationFilter) {
+                          JwtAuthenticationFilter jwtAuthenticationFilter,
+                          RateLimitFilter rateLimitFilter,
+                          FairSchedulingFilter fairSchedulingFilter) {
         this.customUserDetailsService = customUserDetailsService;
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
+        this.fairSchedulingFilter = fairSchedulingFilter;
     }
 
     @Bean
@@ -39,6 +47,9 @@ public class SecurityConfig {
 
                 .authorizeHttpRequests(auth -> auth
 
+                        // Async-Dispatch (z.B. Streaming) wurde bereits beim ursprünglichen Request autorisiert
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         .requestMatchers("/api/auth/**").permitAll()
 
                         // Swagger UI endpoints
@@ -52,12 +63,23 @@ public class SecurityConfig {
 
                         .requestMatchers("/h2-console/**").permitAll()
 
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+
+                        .requestMatchers("/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         .anyRequest().authenticated()
                 )
 
                 .headers(headers -> headers.frameOptions(frame -> frame.disable()))
 
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+
+                // Nach dem JWT-Filter, damit pro User statt nur pro IP gezählt werden kann
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+
+                // Gedrosselte Requests sollen gar nicht erst einen Slot belegen
+                .addFilterAfter(fairSchedulingFilter, RateLimitFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,196 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.analytics.TaskColumnSnapshot;
+import com.example.taskmanager.dto.admin.CategoryUsageDTO;
+import com.example.taskmanager.dto.admin.StaleTasksDTO;
+import com.example.taskmanager.dto.admin.TaskOverviewDTO;
+import com.example.taskmanager.exception.InvalidQueryParameterException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Mandantenübergreifende Auswertungen für Admins. Gerechnet wird nicht auf der Datenbank,
+ * sondern auf einem TaskColumnSnapshot, der periodisch per JDBC neu aufgebaut wird.
+ * Die Zahlen sind also bis zu app.admin-analytics.refresh-interval alt.
+ * Leser greifen nur auf den volatile-Snapshot zu und warten nie auf einen laufenden Neuaufbau.
+ * Nur parallele Neuaufbauten werden über ein ReentrantLock serialisiert (kein synchronized, das würde
+ * virtuelle Threads während des JDBC-Scans an ihren Träger-Thread binden).
+ */
+@Service
+public class AdminAnalyticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminAnalyticsService.class);
+
+    private static final String SNAPSHOT_SQL = "select user_id, category_id, completed, created_at, updated_at from tasks";
+    private static final int MAX_TOP_USERS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile TaskColumnSnapshot snapshot;
+
+    public AdminAnalyticsService(DataSource dataSource,
+                                 @Value("${app.admin-analytics.fetch-size:10000}") int fetchSize) {
+        // Eigenes JdbcTemplate, damit die Fetch-Size nicht für alle anderen Abfragen gilt
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.admin-analytics.refresh-interval:PT5M}",
+            fixedDelayString = "${app.admin-analytics.refresh-interval:PT5M}")
+    public TaskColumnSnapshot refresh() {
+        refreshLock.lock();
+        try {
+            TaskColumnSnapshot built = build();
+            snapshot = built;
+            log.info("Admin-Snapshot mit {} Tasks in {} ms aufgebaut", built.size(), built.buildMillis());
+            return built;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private TaskColumnSnapshot build() {
+        Integer expected = jdbcTemplate.queryForObject("select count(*) from tasks", Integer.class);
+        TaskColumnSnapshot.Builder builder = TaskColumnSnapshot.builder(expected != null ? expected : 0);
+
+        jdbcTemplate.query(SNAPSHOT_SQL, rs -> {
+            long createdAt = rs.getObject(4, LocalDateTime.class).toEpochSecond(ZoneOffset.UTC);
+            LocalDateTime updated = rs.getObject(5, LocalDateTime.class);
+            // getLong liefert 0 für NULL, das ist zugleich der Wert für "ohne Kategorie"
+            builder.add(rs.getLong(1), rs.getLong(2), rs.getBoolean(3),
+                    createdAt, updated != null ? updated.toEpochSecond(ZoneOffset.UTC) : createdAt);
+        });
+
+        return builder.build();
+    }
+
+    public TaskOverviewDTO getOverview() {
+        TaskColumnSnapshot current = current();
+        long completed = current.completedCount();
+        return new TaskOverviewDTO(current.builtAt(), current.buildMillis(), current.size(), completed,
+                rate(completed, current.size()), current.userCount(), current.categoryCount() - 1);
+    }
+
+    public List<CategoryUsageDTO> getCategoryUsage() {
+        TaskColumnSnapshot current = current();
+        int categories = current.categoryCount();
+
+        // Pro Kategorie-Index zwei Zähler: [2i] = Tasks, [2i + 1] = erledigt
+        long[] counts = current.scan((snap, from, to) -> {
+            long[] local = new long[categories * 2];
+            for (int row = from; row < to; row++) {
+                int category = snap.categoryIndex(row);
+                local[category * 2]++;
+                if (snap.isCompleted(row)) {
+                    local[category * 2 + 1]++;
+                }
+            }
+            return local;
+        }, AdminAnalyticsService::add);
+
+        List<CategoryUsageDTO> usage = new ArrayList<>();
+        for (int category = 0; category < categories; category++) {
+            long tasks = counts[category * 2];
+            if (tasks > 0) {
+                Long categoryId = category == TaskColumnSnapshot.NO_CATEGORY ? null : current.categoryId(category);
+                usage.add(new CategoryUsageDTO(categoryId, tasks, counts[category * 2 + 1], rate(counts[category * 2 + 1], tasks)));
+            }
+        }
+        usage.sort(Comparator.comparingLong(CategoryUsageDTO::getTasks).reversed());
+        return usage;
+    }
+
+    public StaleTasksDTO getStaleTasks(int olderThanDays, int limit) {
+        if (olderThanDays < 0 || limit < 1 || limit > MAX_TOP_USERS) {
+            throw new InvalidQueryParameterException(
+                    "olderThanDays muss >= 0 und limit zwischen 1 und " + MAX_TOP_USERS + " sein");
+        }
+        TaskColumnSnapshot current = current();
+        long cutoff = LocalDateTime.now().minusDays(olderThanDays).toEpochSecond(ZoneOffset.UTC);
+
+        // Jeder Teilbereich zählt in ein eigenes Array, beim Join werden sie addiert.
+        // Ein gemeinsames Atomic-Array würde bei jedem Treffer um dieselben Cache-Lines konkurrieren
+        int users = current.userCount();
+        int[] perUser = current.scan((snap, from, to) -> {
+            int[] local = new int[users];
+            for (int row = from; row < to; row++) {
+                if (!snap.isCompleted(row) && snap.updatedAt(row) < cutoff) {
+                    local[snap.userIndex(row)]++;
+                }
+            }
+            return local;
+        }, AdminAnalyticsService::add);
+
+        // Top-N per Min-Heap, nur die Kandidaten werden zu Objekten
+        PriorityQueue<int[]> top = new PriorityQueue<>(limit + 1, Comparator.comparingInt(entry -> entry[1]));
+        long total = 0;
+        long affectedUsers = 0;
+        for (int user = 0; user < perUser.length; user++) {
+            int stale = perUser[user];
+            if (stale == 0) {
+                continue;
+            }
+            total += stale;
+            affectedUsers++;
+            if (top.size() < limit || stale > top.peek()[1]) {
+                top.add(new int[]{user, stale});
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        }
+
+        List<StaleTasksDTO.UserStaleTasks> topUsers = new ArrayList<>();
+        while (!top.isEmpty()) {
+            int[] entry = top.poll();
+            topUsers.add(0, new StaleTasksDTO.UserStaleTasks(current.userId(entry[0]), entry[1]));
+        }
+        return new StaleTasksDTO(olderThanDays, total, affectedUsers, topUsers);
+    }
+
+    private TaskColumnSnapshot current() {
+        TaskColumnSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        // Erster Abruf vor dem ersten geplanten Refresh: nur diese Leser warten auf den Aufbau
+        refreshLock.lock();
+        try {
+            return snapshot != null ? snapshot : refresh();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private static long[] add(long[] left, long[] right) {
+        for (int i = 0; i < left.length; i++) {
+            left[i] += right[i];
+        }
+        return left;
+    }
+
+    private static int[] add(int[] left, int[] right) {
+        for (int i = 0; i < left.length; i++) {
+            left[i] += right[i];
+        }
+        return left;
+    }
+
+    private static double rate(long part, long whole) {
+        return whole == 0 ? 0.0 : (double) part / whole;
+    }
+}
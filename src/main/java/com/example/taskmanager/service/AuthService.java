@@ -10,6 +10,7 @@ import com.example.taskmanager.model.VerificationToken;
 import com.example.taskmanager.repository.UserRepository;
 import com.example.taskmanager.repository.VerificationTokenRepository;
 import com.example.taskmanager.security.JwtTokenProvider;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -29,14 +30,15 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
     private final VerificationTokenRepository verificationTokenRepository;
-    private final EmailService emailService;
+    // EmailService ist @Lazy und wird erst beim ersten Versand erzeugt
+    private final ObjectProvider<EmailService> emailService;
 
     public AuthService(UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
                        AuthenticationManager authenticationManager,
                        JwtTokenProvider jwtTokenProvider,
                        VerificationTokenRepository verificationTokenRepository,
-                       EmailService emailService){
+                       ObjectProvider<EmailService> emailService){
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
@@ -66,7 +68,7 @@ public class AuthService {
         VerificationToken verificationToken = new VerificationToken(token,savedUser);
         verificationTokenRepository.save(verificationToken);
 
-        emailService.sendVerificationEmail(savedUser.getEmail(), savedUser.getUsername(), token);
+        emailService.getObject().sendVerificationEmail(savedUser.getEmail(), savedUser.getUsername(), token);
     }
 
     @Transactional
@@ -0,0 +1,509 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.deadline.RequestDeadline;
+import com.example.taskmanager.dto.CategoryRequestDTO;
+import com.example.taskmanager.dto.ErrorResponse;
+import com.example.taskmanager.dto.TaskFilter;
+import com.example.taskmanager.dto.TaskRequestDTO;
+import com.example.taskmanager.dto.batch.BatchOperationDTO;
+import com.example.taskmanager.dto.batch.BatchRequestDTO;
+import com.example.taskmanager.dto.batch.BatchResponseDTO;
+import com.example.taskmanager.dto.batch.BatchResultDTO;
+import com.example.taskmanager.exception.CategoryNotFoundException;
+import com.example.taskmanager.exception.DeadlineExceededException;
+import com.example.taskmanager.exception.InvalidQueryParameterException;
+import com.example.taskmanager.exception.TaskNotFoundException;
+import com.example.taskmanager.model.User;
+import com.example.taskmanager.ratelimit.RateLimiter;
+import com.example.taskmanager.ratelimit.RateLimits;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.validation.DataBinder;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.beans.PropertyDescriptor;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Führt mehrere Task- und Category-Operationen in einem Request aus (POST /api/batch).
+ * Die Teil-Anfragen laufen nicht noch einmal durch den DispatcherServlet, sondern werden über eine
+ * feste Routentabelle direkt auf TaskService und CategoryService abgebildet; Authentifizierung und
+ * Security-Filter laufen damit nur einmal für den ganzen Batch.
+ * Ohne atomic hat jede Operation ihre eigene Transaktion und aufeinanderfolgende GETs laufen parallel,
+ * mit atomic läuft alles sequenziell in einer Transaktion. Parallel laufen höchstens app.batch.max-parallel
+ * Operationen je Batch, auf dem eigenen batchExecutor und nicht auf dem Pool der @Async-Mails.
+ * Was die Filter und Controller sonst pro Request erledigen, gilt hier pro Operation: jede Operation
+ * verbraucht ein Token aus dem Rate-Limit-Budget ihres Pfads, läuft mit dem Zeitbudget ihres Endpoints
+ * (@RequestTimeout bzw. app.deadline.default-timeout) und lehnt Query-Parameter ab, die sie nicht kennt.
+ */
+@Service
+public class BatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchService.class);
+
+    private static final DefaultFormattingConversionService CONVERSION_SERVICE = new DefaultFormattingConversionService();
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Map<String, String> pathVariables, MultiValueMap<String, String> params, JsonNode body) throws Exception;
+    }
+
+    // timeoutMillis null = app.deadline.default-timeout
+    private record Route(HttpMethod method, PathPattern pattern, HttpStatus status, Set<String> params,
+                         Long timeoutMillis, Handler handler) {
+    }
+
+    // Wie @RequestTimeout an den Endpoints
+    private static final long SEARCH_TIMEOUT_MILLIS = 3_000;
+    private static final long BULK_TIMEOUT_MILLIS = 30_000;
+
+    // Alle Setter von TaskFilter, so bleibt die Liste mit dem @ParameterObject der Controller in Sync
+    private static final Set<String> FILTER_PARAMS = Arrays.stream(BeanUtils.getPropertyDescriptors(TaskFilter.class))
+            .filter(descriptor -> descriptor.getWriteMethod() != null)
+            .map(PropertyDescriptor::getName)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final RateLimits rateLimits;
+    private final List<Route> routes = new ArrayList<>();
+
+    // Wie im DeadlineInterceptor
+    @Value("${app.deadline.enabled:true}")
+    private boolean deadlineEnabled = true;
+
+    @Value("${app.deadline.default-timeout:PT10S}")
+    private Duration defaultTimeout = Duration.ofSeconds(10);
+
+    @Value("${app.batch.max-parallel:4}")
+    private int maxParallel = 4;
+
+    public BatchService(TaskService taskService,
+                        CategoryService categoryService,
+                        TaskStatsService taskStatsService,
+                        TaskRollupService taskRollupService,
+                        ObjectMapper objectMapper,
+                        Validator validator,
+                        PlatformTransactionManager transactionManager,
+                        @Qualifier("batchExecutor") Executor executor,
+                        RateLimits rateLimits) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rateLimits = rateLimits;
+        // Wie im DashboardService: der User steckt im SecurityContext und muss in die Worker-Threads mit
+        this.executor = new DelegatingSecurityContextExecutor(executor);
+
+        // Feste Pfade vor den Pfaden mit {id}, die erste passende Route gewinnt
+        route(HttpMethod.GET, "/api/tasks", HttpStatus.OK, with(FILTER_PARAMS, "fields"), null, (vars, params, body) -> {
+            TaskFilter filter = bindFilter(params);
+            String fields = params.getFirst("fields");
+            if (fields != null) {
+                return taskService.getTaskFields(fields, filter);
+            }
+            return filter.isEmpty() ? taskService.getAllTasks() : taskService.findTasks(filter);
+        });
+        route(HttpMethod.GET, "/api/tasks/completed", HttpStatus.OK, Set.of("fields"), null, (vars, params, body) -> {
+            String fields = params.getFirst("fields");
+            return fields != null ? taskService.getTaskFields(fields, TaskFilter.completed(true)) : taskService.getCompletedTasks();
+        });
+        route(HttpMethod.GET, "/api/tasks/search", HttpStatus.OK, Set.of("keyword", "fields"), SEARCH_TIMEOUT_MILLIS,
+                (vars, params, body) -> {
+                    String keyword = requiredParam(params, "keyword");
+                    String fields = params.getFirst("fields");
+                    return fields != null ? taskService.getTaskFields(fields, TaskFilter.keyword(keyword)) : taskService.searchTasks(keyword);
+                });
+        route(HttpMethod.GET, "/api/tasks/stats", HttpStatus.OK,
+                (vars, params, body) -> taskStatsService.getStats(currentUser().getId()));
+        route(HttpMethod.GET, "/api/tasks/analytics", HttpStatus.OK, Set.of("from", "to", "granularity", "byCategory"), null,
+                (vars, params, body) -> taskRollupService.getRollups(currentUser().getId(),
+                        dateParam(params, "from"), dateParam(params, "to"),
+                        params.getFirst("granularity") != null ? params.getFirst("granularity") : "day",
+                        Boolean.parseBoolean(params.getFirst("byCategory"))));
+        route(HttpMethod.POST, "/api/tasks/bulk/complete", HttpStatus.OK, FILTER_PARAMS, BULK_TIMEOUT_MILLIS,
+                (vars, params, body) -> taskService.completeTasks(bindFilter(params)));
+        route(HttpMethod.POST, "/api/tasks/bulk/reopen", HttpStatus.OK, FILTER_PARAMS, BULK_TIMEOUT_MILLIS,
+                (vars, params, body) -> taskService.reopenTasks(bindFilter(params)));
+        route(HttpMethod.POST, "/api/tasks/bulk/move", HttpStatus.OK, with(FILTER_PARAMS, "targetCategoryId"), BULK_TIMEOUT_MILLIS,
+                (vars, params, body) -> taskService.moveTasks(bindFilter(params), parseId(requiredParam(params, "targetCategoryId"))));
+        route(HttpMethod.DELETE, "/api/tasks/bulk", HttpStatus.OK, FILTER_PARAMS, BULK_TIMEOUT_MILLIS,
+                (vars, params, body) -> taskService.deleteTasks(bindFilter(params)));
+        route(HttpMethod.GET, "/api/tasks/{id}", HttpStatus.OK,
+                (vars, params, body) -> taskService.getTaskById(parseId(vars.get("id"))));
+        route(HttpMethod.POST, "/api/tasks", HttpStatus.CREATED,
+                (vars, params, body) -> taskService.createTask(readBody(body, TaskRequestDTO.class)));
+        route(HttpMethod.PUT, "/api/tasks/{id}", HttpStatus.OK, (vars, params, body) ->
+                taskService.updateTask(parseId(vars.get("id")), readBody(body, TaskRequestDTO.class)));
+        route(HttpMethod.DELETE, "/api/tasks/{id}", HttpStatus.NO_CONTENT, (vars, params, body) -> {
+            taskService.deleteTask(parseId(vars.get("id")));
+            return null;
+        });
+
+        route(HttpMethod.GET, "/api/categories", HttpStatus.OK, (vars, params, body) -> categoryService.getAllCategories());
+        route(HttpMethod.GET, "/api/categories/{id}", HttpStatus.OK,
+                (vars, params, body) -> categoryService.getCategoryById(parseId(vars.get("id"))));
+        route(HttpMethod.GET, "/api/categories/{id}/tasks", HttpStatus.OK, Set.of("page", "size"), null, (vars, params, body) ->
+                taskService.getTasksByCategory(parseId(vars.get("id")), intParam(params, "page", 0), intParam(params, "size", 100))
+                        .getContent());
+        route(HttpMethod.POST, "/api/categories", HttpStatus.CREATED,
+                (vars, params, body) -> categoryService.createCategory(readBody(body, CategoryRequestDTO.class)));
+        route(HttpMethod.PUT, "/api/categories/{id}", HttpStatus.OK, (vars, params, body) ->
+                categoryService.updateCategory(parseId(vars.get("id")), readBody(body, CategoryRequestDTO.class)));
+        route(HttpMethod.DELETE, "/api/categories/{id}", HttpStatus.NO_CONTENT, Set.of(), BULK_TIMEOUT_MILLIS, (vars, params, body) -> {
+            categoryService.deleteCategory(parseId(vars.get("id")));
+            return null;
+        });
+        route(HttpMethod.POST, "/api/categories/{id}/merge-into/{targetId}", HttpStatus.OK, Set.of(), BULK_TIMEOUT_MILLIS,
+                (vars, params, body) -> categoryService.mergeCategory(parseId(vars.get("id")), parseId(vars.get("targetId"))));
+        route(HttpMethod.POST, "/api/categories/{id}/detach-tasks", HttpStatus.OK, Set.of(), BULK_TIMEOUT_MILLIS,
+                (vars, params, body) -> categoryService.detachTasks(parseId(vars.get("id"))));
+    }
+
+    public BatchResponseDTO execute(BatchRequestDTO request) {
+        List<BatchOperationDTO> operations = request.getOperations();
+        return request.isAtomic() ? executeAtomic(operations) : executeIndependent(operations);
+    }
+
+    private BatchResponseDTO executeAtomic(List<BatchOperationDTO> operations) {
+        BatchResultDTO[] results = new BatchResultDTO[operations.size()];
+        Boolean rolledBack;
+        try {
+            // Eine Transaktion für alle: ihr Timeout ist die Summe der Budgets, aber nicht mehr als das des Batches
+            long budget = operations.stream().mapToLong(this::budgetMillis).sum();
+            rolledBack = withinBudget(budget, () -> transactionTemplate.execute(status -> {
+                for (int i = 0; i < operations.size(); i++) {
+                    results[i] = execute(operations.get(i), Long.MAX_VALUE);
+                    if (isFailure(results[i])) {
+                        status.setRollbackOnly();
+                        markRolledBack(results, operations, i);
+                        return true;
+                    }
+                }
+                return false;
+            }));
+        } catch (DeadlineExceededException | TransactionTimedOutException ex) {
+            for (int i = 0; i < operations.size(); i++) {
+                results[i] = timeout(operations.get(i).getPath());
+            }
+            rolledBack = true;
+        } catch (RuntimeException ex) {
+            // Fehler erst beim Commit (Flush, Constraints): keine Operation ist gespeichert
+            log.warn("Atomarer Batch beim Commit fehlgeschlagen", ex);
+            for (int i = 0; i < operations.size(); i++) {
+                results[i] = error(HttpStatus.INTERNAL_SERVER_ERROR, "Commit fehlgeschlagen, nichts gespeichert",
+                        operations.get(i).getPath(), null);
+            }
+            rolledBack = true;
+        }
+        return new BatchResponseDTO(Boolean.TRUE.equals(rolledBack), List.of(results));
+    }
+
+    private BatchResponseDTO executeIndependent(List<BatchOperationDTO> operations) {
+        BatchResultDTO[] results = new BatchResultDTO[operations.size()];
+        // Aufeinanderfolgende GETs bilden eine Welle, die parallel läuft; Schreiboperationen sind Barrieren,
+        // damit ein GET hinter einem POST dessen Ergebnis sieht
+        int waveStart = 0;
+        for (int i = 0; i <= operations.size(); i++) {
+            boolean read = i < operations.size() && isRead(operations.get(i));
+            if (read) {
+                continue;
+            }
+            runWave(operations, results, waveStart, i);
+            if (i < operations.size()) {
+                results[i] = execute(operations.get(i), Long.MAX_VALUE);
+            }
+            waveStart = i + 1;
+        }
+        return new BatchResponseDTO(false, List.of(results));
+    }
+
+    private void runWave(List<BatchOperationDTO> operations, BatchResultDTO[] results, int from, int to) {
+        if (to - from == 1) {
+            results[from] = execute(operations.get(from), Long.MAX_VALUE);
+            return;
+        }
+        // Worker erben die Deadline des Batches nicht, sie bekommen deren Rest mit
+        long batchRemaining = RequestDeadline.remainingMillis();
+        long submitted = System.nanoTime();
+        // Höchstens maxParallel Operationen auf einmal im Pool, sonst füllt ein einzelner Batch dessen Queue
+        for (int chunkStart = from; chunkStart < to; chunkStart += maxParallel) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = chunkStart; i < Math.min(to, chunkStart + maxParallel); i++) {
+                int index = i;
+                try {
+                    futures.add(CompletableFuture.runAsync(() -> results[index] = execute(operations.get(index),
+                            batchRemaining == Long.MAX_VALUE ? Long.MAX_VALUE : batchRemaining - millisSince(submitted)), executor));
+                } catch (RejectedExecutionException ex) {
+                    // Pool ausgelastet: dann eben im Request-Thread
+                    results[index] = execute(operations.get(index), Long.MAX_VALUE);
+                }
+            }
+            // execute wirft nicht, join wartet nur auf das Ende des Abschnitts
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        }
+    }
+
+    /**
+     * @param outerBudgetMillis Restzeit des Batches für Worker-Threads, im Request-Thread Long.MAX_VALUE
+     *                          (dort gilt die Deadline des Batches schon)
+     */
+    private BatchResultDTO execute(BatchOperationDTO operation, long outerBudgetMillis) {
+        String path = operation.getPath();
+        try {
+            HttpMethod method = HttpMethod.valueOf(operation.getMethod().trim().toUpperCase());
+            UriComponents uri = UriComponentsBuilder.fromUriString(path).build();
+            String routePath = uri.getPath() != null ? uri.getPath() : "";
+            PathContainer pathContainer = PathContainer.parsePath(routePath);
+
+            for (Route route : routes) {
+                if (!route.method().equals(method)) {
+                    continue;
+                }
+                PathPattern.PathMatchInfo match = route.pattern().matchAndExtract(pathContainer);
+                if (match != null) {
+                    MultiValueMap<String, String> params = decode(uri.getQueryParams());
+                    BatchResultDTO limited = consumeRateLimit(routePath, params, path);
+                    if (limited != null) {
+                        return limited;
+                    }
+                    rejectUnknownParams(route, params);
+                    Object body = withinBudget(Math.min(budgetMillis(route), outerBudgetMillis),
+                            () -> route.handler().handle(match.getUriVariables(), params, operation.getBody()));
+                    return new BatchResultDTO(route.status().value(), body);
+                }
+            }
+            return error(HttpStatus.NOT_FOUND, "Keine Batch-Route für " + method + " " + uri.getPath(), path, null);
+        } catch (DeadlineExceededException | QueryTimeoutException | TransactionTimedOutException ex) {
+            return timeout(path);
+        } catch (TaskNotFoundException | CategoryNotFoundException ex) {
+            return error(HttpStatus.NOT_FOUND, ex.getMessage(), path, null);
+        } catch (InvalidQueryParameterException ex) {
+            return error(HttpStatus.BAD_REQUEST, ex.getMessage(), path, null);
+        } catch (AccessDeniedException ex) {
+            return error(HttpStatus.FORBIDDEN, "Keine Berechtigung für diese Operation", path, null);
+        } catch (ConstraintViolationException ex) {
+            Map<String, String> validationErrors = new HashMap<>();
+            for (ConstraintViolation<?> violation : ex.getConstraintViolations()) {
+                validationErrors.put(violation.getPropertyPath().toString(), violation.getMessage());
+            }
+            return error(HttpStatus.BAD_REQUEST, "Validierung fehlgeschlagen", path, validationErrors);
+        } catch (JsonProcessingException | IllegalArgumentException ex) {
+            return error(HttpStatus.BAD_REQUEST, "Ungültige Operation: " + ex.getMessage(), path, null);
+        } catch (Exception ex) {
+            log.error("Batch-Operation {} {} fehlgeschlagen", operation.getMethod(), path, ex);
+            return error(HttpStatus.INTERNAL_SERVER_ERROR, "Ein interner Fehler ist aufgetreten", path, null);
+        }
+    }
+
+    private void route(HttpMethod method, String pattern, HttpStatus status, Handler handler) {
+        route(method, pattern, status, Set.of(), null, handler);
+    }
+
+    private void route(HttpMethod method, String pattern, HttpStatus status, Set<String> params, Long timeoutMillis, Handler handler) {
+        routes.add(new Route(method, PathPatternParser.defaultInstance.parse(pattern), status, params, timeoutMillis, handler));
+    }
+
+    // Ein Token pro Operation aus dem Budget, das auch der einzelne Request verbraucht hätte; null = erlaubt
+    private BatchResultDTO consumeRateLimit(String routePath, MultiValueMap<String, String> params, String path) {
+        if (!rateLimits.isEnabled()) {
+            return null;
+        }
+        RateLimiter limiter = rateLimits.forPath(routePath, params.containsKey("keyword"));
+        String key = RateLimits.userKey(SecurityContextHolder.getContext().getAuthentication().getName());
+        if (limiter.tryConsume(key) >= 0) {
+            return null;
+        }
+        return error(HttpStatus.TOO_MANY_REQUESTS,
+                "Zu viele Anfragen (Limit " + limiter.getName() + ": " + limiter.getCapacity() + ")", path, null);
+    }
+
+    // Wie Spring MVC unbekannte Parameter einfach zu ignorieren, würde z. B. ein vergessenes fields verschleiern
+    private static void rejectUnknownParams(Route route, MultiValueMap<String, String> params) {
+        for (String name : params.keySet()) {
+            if (!route.params().contains(name)) {
+                throw new InvalidQueryParameterException("Parameter " + name + " wird von "
+                        + route.method() + " " + route.pattern() + " im Batch nicht unterstützt");
+            }
+        }
+    }
+
+    private long budgetMillis(Route route) {
+        return route.timeoutMillis() != null ? route.timeoutMillis() : defaultTimeout.toMillis();
+    }
+
+    // Budget der passenden Route, unbekannte Operationen scheitern ohnehin sofort
+    private long budgetMillis(BatchOperationDTO operation) {
+        try {
+            HttpMethod method = HttpMethod.valueOf(operation.getMethod().trim().toUpperCase());
+            String routePath = UriComponentsBuilder.fromUriString(operation.getPath()).build().getPath();
+            PathContainer pathContainer = PathContainer.parsePath(routePath != null ? routePath : "");
+            return routes.stream()
+                    .filter(route -> route.method().equals(method) && route.pattern().matches(pathContainer))
+                    .findFirst()
+                    .map(this::budgetMillis)
+                    .orElse(0L);
+        } catch (IllegalArgumentException ex) {
+            return 0;
+        }
+    }
+
+    private <T, E extends Exception> T withinBudget(long budgetMillis, RequestDeadline.Action<T, E> action) throws E {
+        return deadlineEnabled ? RequestDeadline.callWithin(budgetMillis, action) : action.call();
+    }
+
+    private <T> T readBody(JsonNode body, Class<T> type) throws JsonProcessingException {
+        if (body == null || body.isNull()) {
+            throw new InvalidQueryParameterException("Request-Body fehlt");
+        }
+        T value = objectMapper.treeToValue(body, type);
+        // Ersetzt das @Valid der Controller
+        Set<ConstraintViolation<T>> violations = validator.validate(value);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return value;
+    }
+
+    private static User currentUser() {
+        return (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+
+    private static Set<String> with(Set<String> params, String... more) {
+        Set<String> all = new HashSet<>(params);
+        all.addAll(Arrays.asList(more));
+        return Set.copyOf(all);
+    }
+
+    private static TaskFilter bindFilter(MultiValueMap<String, String> params) {
+        TaskFilter filter = new TaskFilter();
+        DataBinder binder = new DataBinder(filter);
+        binder.setConversionService(CONVERSION_SERVICE);
+        binder.bind(new MutablePropertyValues(params.toSingleValueMap()));
+        if (binder.getBindingResult().hasErrors()) {
+            throw new InvalidQueryParameterException("Ungültiger Filter-Parameter: "
+                    + binder.getBindingResult().getFieldErrors().get(0).getField());
+        }
+        return filter;
+    }
+
+    private static MultiValueMap<String, String> decode(MultiValueMap<String, String> params) {
+        MultiValueMap<String, String> decoded = new LinkedMultiValueMap<>();
+        params.forEach((name, values) -> values.forEach(value ->
+                decoded.add(name, value != null ? UriUtils.decode(value, StandardCharsets.UTF_8) : "")));
+        return decoded;
+    }
+
+    private static String requiredParam(MultiValueMap<String, String> params, String name) {
+        String value = params.getFirst(name);
+        if (value == null || value.isBlank()) {
+            throw new InvalidQueryParameterException("Parameter " + name + " fehlt");
+        }
+        return value;
+    }
+
+    private static int intParam(MultiValueMap<String, String> params, String name, int defaultValue) {
+        String value = params.getFirst(name);
+        try {
+            return value != null ? Integer.parseInt(value) : defaultValue;
+        } catch (NumberFormatException ex) {
+            throw new InvalidQueryParameterException(name + " muss eine Zahl sein");
+        }
+    }
+
+    private static LocalDate dateParam(MultiValueMap<String, String> params, String name) {
+        String value = params.getFirst(name);
+        try {
+            return value != null ? LocalDate.parse(value) : null;
+        } catch (DateTimeParseException ex) {
+            throw new InvalidQueryParameterException(name + " muss ein Datum im Format yyyy-MM-dd sein");
+        }
+    }
+
+    private static Long parseId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException ex) {
+            throw new InvalidQueryParameterException("Ungültige ID: " + value);
+        }
+    }
+
+    private static boolean isRead(BatchOperationDTO operation) {
+        return "GET".equalsIgnoreCase(operation.getMethod().trim());
+    }
+
+    private static boolean isFailure(BatchResultDTO result) {
+        return result.getStatus() >= 400;
+    }
+
+    private static void markRolledBack(BatchResultDTO[] results, List<BatchOperationDTO> operations, int failedIndex) {
+        for (int i = 0; i < results.length; i++) {
+            if (i != failedIndex) {
+                String message = i < failedIndex
+                        ? "Zurückgerollt, Operation " + failedIndex + " ist fehlgeschlagen"
+                        : "Nicht ausgeführt, Operation " + failedIndex + " ist fehlgeschlagen";
+                results[i] = error(HttpStatus.FAILED_DEPENDENCY, message, operations.get(i).getPath(), null);
+            }
+        }
+    }
+
+    private static BatchResultDTO timeout(String path) {
+        return error(HttpStatus.GATEWAY_TIMEOUT, "Zeitbudget der Operation überschritten, die Verarbeitung wurde abgebrochen",
+                path, null);
+    }
+
+    private static long millisSince(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static BatchResultDTO error(HttpStatus status, String message, String path, Map<String, String> validationErrors) {
+        ErrorResponse error = new ErrorResponse(LocalDateTime.now(), status.value(), status.getReasonPhrase(),
+                message, path, validationErrors);
+        return new BatchResultDTO(status.value(), error);
+    }
+}
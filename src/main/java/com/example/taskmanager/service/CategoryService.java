@@ -1,32 +1,62 @@
 package com.example.taskmanager.service;
 
+import com.example.taskmanager.dto.BulkOperationResponseDTO;
 import com.example.taskmanager.dto.CategoryRequestDTO;
 import com.example.taskmanager.dto.CategoryResponseDTO;
+import com.example.taskmanager.event.TaskChangedEvent;
 import com.example.taskmanager.exception.CategoryNotFoundException;
+import com.example.taskmanager.exception.InvalidQueryParameterException;
 import com.example.taskmanager.mapper.CategoryMapper;
 import com.example.taskmanager.model.Category;
 import com.example.taskmanager.repository.CategoryRepository;
+import com.example.taskmanager.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 @Service
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final TaskRepository taskRepository;
     private final CategoryMapper categoryMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    public CategoryService(CategoryRepository categoryRepository, CategoryMapper categoryMapper){
+    // Anzahl Tasks pro DELETE/UPDATE-Statement bei Bulk-Operationen
+    @Value("${app.categories.bulk-chunk-size:1000}")
+    private int bulkChunkSize = 1000;
+
+    public CategoryService(CategoryRepository categoryRepository, TaskRepository taskRepository, CategoryMapper categoryMapper,
+                           ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager){
         this.categoryRepository = categoryRepository;
+        this.taskRepository = taskRepository;
         this.categoryMapper = categoryMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Transactional(readOnly = true)
     public List<CategoryResponseDTO> getAllCategories(){
+        Map<Long, Long> taskCounts = new HashMap<>();
+        for (Object[] row : taskRepository.countGroupedByCategoryId()) {
+            taskCounts.put((Long) row[0], (Long) row[1]);
+        }
         return categoryRepository.findAll().stream()
-                .map(categoryMapper::toResponseDTO)
+                .map(category -> categoryMapper.toResponseDTO(category, taskCounts.getOrDefault(category.getId(), 0L)))
                 .collect(Collectors.toList());
     }
 
@@ -34,7 +64,7 @@ public class CategoryService {
     public CategoryResponseDTO getCategoryById(Long id){
         Category category = categoryRepository.findById(id)
                 .orElseThrow(()-> new CategoryNotFoundException(id));
-        return categoryMapper.toResponseDTO(category);
+        return categoryMapper.toResponseDTO(category, taskRepository.countByCategoryId(id));
     }
 
     public CategoryResponseDTO createCategory(CategoryRequestDTO requestDTO){
@@ -44,7 +74,7 @@ public class CategoryService {
 
         Category category = categoryMapper.toEntity(requestDTO);
         Category savedCategory = categoryRepository.save(category);
-        return categoryMapper.toResponseDTO(savedCategory);
+        return categoryMapper.toResponseDTO(savedCategory, 0);
     }
 
     public CategoryResponseDTO updateCategory(Long id, CategoryRequestDTO requestDTO){
@@ -60,13 +90,84 @@ public class CategoryService {
         existingCategory.setDescription(requestDTO.getDescription());
 
         Category updatedCategory = categoryRepository.save(existingCategory);
-        return categoryMapper.toResponseDTO(updatedCategory);
+        return categoryMapper.toResponseDTO(updatedCategory, taskRepository.countByCategoryId(id));
     }
 
     public void deleteCategory(Long id){
         if(!categoryRepository.existsById(id)){
             throw new CategoryNotFoundException(id);
         }
-        categoryRepository.deleteById(id);
+        inChunks(id, taskRepository::deleteByIds, () -> categoryRepository.deleteCategoryById(id), List.of(id));
+    }
+
+    /**
+     * Verschiebt alle Tasks von {@code sourceId} nach {@code targetId} und löscht danach die Quell-Kategorie.
+     * Kategorien sind global, betroffen sind also Tasks aller User: nur für Admins.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    public BulkOperationResponseDTO mergeCategory(Long sourceId, Long targetId){
+        if(sourceId.equals(targetId)){
+            throw new InvalidQueryParameterException("Eine Category kann nicht mit sich selbst zusammengeführt werden");
+        }
+        if(!categoryRepository.existsById(sourceId)){
+            throw new CategoryNotFoundException(sourceId);
+        }
+        Category target = categoryRepository.findById(targetId)
+                .orElseThrow(() -> new CategoryNotFoundException(targetId));
+
+        LocalDateTime now = LocalDateTime.now();
+        int moved = inChunks(sourceId, ids -> taskRepository.updateCategoryByIds(ids, target, now),
+                () -> categoryRepository.deleteCategoryById(sourceId), List.of(sourceId, targetId));
+        return new BulkOperationResponseDTO(moved);
+    }
+
+    /**
+     * Entfernt alle Tasks aus der Kategorie (category_id = NULL), die Tasks selbst bleiben erhalten.
+     * Wie beim Merge sind Tasks aller User betroffen: nur für Admins.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    public BulkOperationResponseDTO detachTasks(Long id){
+        if(!categoryRepository.existsById(id)){
+            throw new CategoryNotFoundException(id);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int detached = inChunks(id, ids -> taskRepository.updateCategoryByIds(ids, null, now), () -> {},
+                Arrays.asList(id, null));
+        return new BulkOperationResponseDTO(detached);
+    }
+
+    private record Chunk(int affected, boolean last) {
+    }
+
+    /**
+     * Jeder Chunk läuft in einer eigenen Transaktion, damit Locks und Undo-Log nicht über alle Tasks der
+     * Kategorie wachsen. Die Operation nimmt die Tasks aus der Kategorie heraus, deshalb wird immer wieder der
+     * erste Chunk geholt. Der letzte, unvollständige Chunk committet zusammen mit {@code finish}.
+     * Pro Chunk geht für jeden betroffenen User ein Event auf {@code categoryIds} mit in die Transaktion, so
+     * werden Rollups und Statistik nur für diese User neu gezählt und passen nach jedem Commit.
+     * Bricht es mittendrin ab, bleiben die fertigen Chunks gespeichert; ein erneuter Aufruf macht dort weiter.
+     */
+    private int inChunks(Long categoryId, ToIntFunction<List<Long>> operation, Runnable finish, List<Long> categoryIds){
+        int affected = 0;
+        Chunk chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> {
+                List<Long> ids = taskRepository.findIdsByCategoryId(categoryId, Limit.of(bulkChunkSize));
+                int count = 0;
+                if(!ids.isEmpty()){
+                    // Vor der Operation lesen, nach einem Delete gibt es die Tasks nicht mehr
+                    List<Long> userIds = taskRepository.findUserIdsByIds(ids);
+                    count = operation.applyAsInt(ids);
+                    userIds.forEach(userId -> eventPublisher.publishEvent(TaskChangedEvent.bulkCategories(userId, categoryIds)));
+                }
+                boolean last = ids.size() < bulkChunkSize;
+                if(last){
+                    finish.run();
+                }
+                return new Chunk(count, last);
+            });
+            affected += chunk.affected();
+        } while (!chunk.last());
+        return affected;
     }
 }
@@ -0,0 +1,107 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.CategoryResponseDTO;
+import com.example.taskmanager.dto.TaskResponseDTO;
+import com.example.taskmanager.dto.dashboard.DashboardResponseDTO;
+import com.example.taskmanager.dto.dashboard.DashboardSectionDTO;
+import com.example.taskmanager.dto.dashboard.DashboardSectionDTO.Status;
+import com.example.taskmanager.dto.dashboard.UserProfileDTO;
+import com.example.taskmanager.deadline.RequestDeadline;
+import com.example.taskmanager.model.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Lädt die unabhängigen Teile des Dashboards parallel auf einem eigenen Pool (dashboardExecutor).
+ * Jeder Zweig hat ein eigenes Timeout und liefert bei Fehlern ein leeres Ergebnis mit Status statt den
+ * ganzen Request scheitern zu lassen. Das Timeout gilt im Zweig als RequestDeadline, seine Abfragen werden
+ * also per Query-Timeout abgebrochen statt im Hintergrund mit belegter Connection weiterzulaufen.
+ */
+@Service
+public class DashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+
+    private final TaskService taskService;
+    private final CategoryService categoryService;
+    private final Executor executor;
+    private final Duration branchTimeout;
+
+    public DashboardService(TaskService taskService,
+                            CategoryService categoryService,
+                            @Qualifier("dashboardExecutor") Executor executor,
+                            @Value("${app.dashboard.branch-timeout:PT2S}") Duration branchTimeout) {
+        this.taskService = taskService;
+        this.categoryService = categoryService;
+        // TaskService liest den User aus dem SecurityContext, der muss in die Worker-Threads mit
+        this.executor = new DelegatingSecurityContextExecutor(executor);
+        this.branchTimeout = branchTimeout;
+    }
+
+    public DashboardResponseDTO getDashboard(User user) {
+        long start = System.nanoTime();
+
+        CompletableFuture<DashboardSectionDTO<List<TaskResponseDTO>>> tasks =
+                branch("tasks", taskService::getAllTasks);
+        CompletableFuture<DashboardSectionDTO<List<TaskResponseDTO>>> completedTasks =
+                branch("completedTasks", taskService::getCompletedTasks);
+        CompletableFuture<DashboardSectionDTO<List<CategoryResponseDTO>>> categories =
+                branch("categories", categoryService::getAllCategories);
+        // Das Profil steckt schon im Principal, dafür lohnt kein eigener Thread
+        DashboardSectionDTO<UserProfileDTO> profile = DashboardSectionDTO.ok(UserProfileDTO.of(user), 0);
+
+        // Die Zweige schlagen nie fehl (siehe handle in branch), join wartet also höchstens branchTimeout
+        CompletableFuture.allOf(tasks, completedTasks, categories).join();
+        return new DashboardResponseDTO(profile, tasks.join(), completedTasks.join(), categories.join(), millisSince(start));
+    }
+
+    private <T> CompletableFuture<DashboardSectionDTO<T>> branch(String name, Supplier<T> supplier) {
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(withDeadline(supplier), executor);
+        } catch (RejectedExecutionException ex) {
+            log.warn("Dashboard-Zweig {} abgelehnt, Executor ausgelastet", name);
+            return CompletableFuture.completedFuture(
+                    DashboardSectionDTO.failed(Status.FAILED, "Server ausgelastet", millisSince(start)));
+        }
+        return future
+                .orTimeout(branchTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((data, ex) -> {
+                    long duration = millisSince(start);
+                    if (ex == null) {
+                        return DashboardSectionDTO.ok(data, duration);
+                    }
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof TimeoutException) {
+                        log.warn("Dashboard-Zweig {} nach {} ms abgebrochen", name, duration);
+                        return DashboardSectionDTO.failed(Status.TIMEOUT, "Timeout nach " + branchTimeout.toMillis() + " ms", duration);
+                    }
+                    log.warn("Dashboard-Zweig {} fehlgeschlagen", name, cause);
+                    return DashboardSectionDTO.failed(Status.FAILED, "Laden fehlgeschlagen", duration);
+                });
+    }
+
+    // Deadline ab Start im Worker: die Zeit in der Queue zählt nicht mit, sie ist durch orTimeout abgedeckt
+    private <T> Supplier<T> withDeadline(Supplier<T> supplier) {
+        return () -> RequestDeadline.callWithin(branchTimeout.toMillis(), supplier::get);
+    }
+
+    private static long millisSince(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
@@ -1,12 +1,15 @@
 package com.example.taskmanager.service;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+// Erst bei der ersten Registrierung erzeugt, AuthService holt ihn über einen ObjectProvider
 @Service
+@Lazy
 public class EmailService {
 
     private final JavaMailSender mailSender;
@@ -0,0 +1,126 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.admin.RecordingStatusDTO;
+import com.example.taskmanager.exception.InvalidQueryParameterException;
+import com.example.taskmanager.exception.RecordingStateException;
+import com.example.taskmanager.jfr.JdbcQueryEvent;
+import com.example.taskmanager.jfr.JwtVerificationEvent;
+import com.example.taskmanager.jfr.ServiceCallEvent;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Steuert eine JFR-Aufnahme im laufenden Prozess, ohne externen Agent oder jcmd.
+ * Es gibt höchstens eine Aufnahme; sie landet auf Platte und ist durch max-age/max-size begrenzt.
+ * Nach stop kann sie noch abgeholt werden, bis die nächste gestartet wird.
+ */
+@Service
+public class JfrRecordingService {
+
+    private static final Logger log = LoggerFactory.getLogger(JfrRecordingService.class);
+
+    // Die beiden Konfigurationen, die jedes JDK mitbringt
+    private static final Set<String> SETTINGS = Set.of("default", "profile");
+
+    private final Duration maxAge;
+    private final DataSize maxSize;
+    private Recording recording;
+    private String settings;
+
+    public JfrRecordingService(@Value("${app.jfr.max-age:PT30M}") Duration maxAge,
+                               @Value("${app.jfr.max-size:100MB}") DataSize maxSize) {
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+    }
+
+    public synchronized RecordingStatusDTO start(String settings) {
+        if (!SETTINGS.contains(settings)) {
+            throw new InvalidQueryParameterException("settings muss einer von " + SETTINGS + " sein");
+        }
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new RecordingStateException("Es läuft bereits eine Aufnahme (id " + recording.getId() + ")");
+        }
+        if (recording != null) {
+            recording.close();
+        }
+
+        Recording created;
+        try {
+            created = new Recording(Configuration.getConfiguration(settings));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (ParseException ex) {
+            throw new IllegalStateException("JFR-Konfiguration " + settings + " nicht lesbar", ex);
+        }
+        created.setName("task-manager");
+        created.setToDisk(true);
+        created.setMaxAge(maxAge);
+        created.setMaxSize(maxSize.toBytes());
+        // In default/profile nicht aufgeführt, also ausdrücklich einschalten
+        created.enable(ServiceCallEvent.class);
+        created.enable(JdbcQueryEvent.class);
+        created.enable(JwtVerificationEvent.class);
+        created.start();
+
+        recording = created;
+        this.settings = settings;
+        log.info("JFR-Aufnahme {} mit Einstellungen {} gestartet", created.getId(), settings);
+        return status();
+    }
+
+    public synchronized RecordingStatusDTO stop() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new RecordingStateException("Es läuft keine Aufnahme");
+        }
+        recording.stop();
+        log.info("JFR-Aufnahme {} gestoppt", recording.getId());
+        return status();
+    }
+
+    /**
+     * Schreibt den bisherigen Inhalt der Aufnahme (laufend oder gestoppt) in eine temporäre Datei.
+     * Die Datei wird beim Schließen des Streams gelöscht.
+     */
+    public synchronized InputStream dump() {
+        if (recording == null) {
+            throw new RecordingStateException("Es gibt keine Aufnahme, zuerst starten");
+        }
+        try {
+            Path file = Files.createTempFile("task-manager-", ".jfr");
+            recording.dump(file);
+            return Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private RecordingStatusDTO status() {
+        return new RecordingStatusDTO(recording.getId(), recording.getState().name(), settings,
+                recording.getStartTime(), recording.getStopTime(), recording.getSize());
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.TaskRollupBucketDTO;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.event.TaskChangedEvent.TaskState;
+import com.example.taskmanager.exception.InvalidQueryParameterException;
+import com.example.taskmanager.model.TaskDailyRollup;
+import com.example.taskmanager.repository.TaskDailyRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Pflegt task_daily_rollups inkrementell und liefert daraus Zeitreihen.
+ * Die Rollups entsprechen einem GROUP BY über die aktuellen Tasks: created nach Tag von createdAt,
+ * completed nach Tag von completedAt (nur erledigte Tasks). Ein Event zieht den alten Zustand ab
+ * und addiert den neuen. Nächtlich baut {@link #rebuildAll()} alles neu auf und korrigiert so Abweichungen,
+ * wenn sich ein Increment mit einem parallelen Rebuild überschnitten hat.
+ */
+@Service
+public class TaskRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskRollupService.class);
+
+    private static final long MAX_RANGE_DAYS = 731;
+
+    private enum Granularity { DAY, WEEK, MONTH }
+
+    private record BucketKey(LocalDate periodStart, Long categoryId) {
+    }
+
+    private static final Comparator<BucketKey> BUCKET_ORDER = Comparator.comparing(BucketKey::periodStart)
+            .thenComparing(BucketKey::categoryId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final TaskDailyRollupRepository rollupRepository;
+
+    public TaskRollupService(TaskDailyRollupRepository rollupRepository) {
+        this.rollupRepository = rollupRepository;
+    }
+
+    // BEFORE_COMMIT: die Rollups werden in derselben Transaktion geschrieben wie die Task-Änderung
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.isBulk()) {
+            rollupRepository.rebuild(event.userId(), event.categoryIds());
+            return;
+        }
+        // Z. B. Titeländerungen: Kategorie, Status und Tage bleiben gleich, die Buckets also auch
+        if (event.before() != null && event.after() != null && sameBuckets(event.before(), event.after())) {
+            return;
+        }
+        apply(event.userId(), event.before(), -1);
+        apply(event.userId(), event.after(), 1);
+    }
+
+    /**
+     * Baut alle Rollups aus der tasks-Tabelle neu auf. Läuft per app.rollups.rebuild-cron,
+     * standardmäßig nachts um 3:30.
+     */
+    @Scheduled(cron = "${app.rollups.rebuild-cron:0 30 3 * * *}")
+    @Transactional
+    public void rebuildAll() {
+        int rows = rollupRepository.rebuild(null, null);
+        log.info("Task-Rollups neu aufgebaut: {} Zeilen", rows);
+    }
+
+    /**
+     * {@code to} ist standardmäßig heute, {@code from} 29 Tage vor {@code to}.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskRollupBucketDTO> getRollups(Long userId, LocalDate from, LocalDate to, String granularity, boolean byCategory) {
+        to = to != null ? to : LocalDate.now();
+        from = from != null ? from : to.minusDays(29);
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new InvalidQueryParameterException(
+                    "from muss vor to liegen und der Zeitraum darf höchstens " + MAX_RANGE_DAYS + " Tage umfassen");
+        }
+        Granularity unit = parseGranularity(granularity);
+
+        Map<BucketKey, long[]> buckets = new TreeMap<>(BUCKET_ORDER);
+        for (TaskDailyRollup rollup : rollupRepository.findRange(userId, from, to)) {
+            Long categoryId = rollup.getId().getCategoryId();
+            BucketKey key = new BucketKey(
+                    periodStart(rollup.getId().getBucketDate(), unit),
+                    byCategory && categoryId != TaskDailyRollup.NO_CATEGORY ? categoryId : null);
+            long[] counts = buckets.computeIfAbsent(key, k -> new long[2]);
+            counts[0] += rollup.getCreatedCount();
+            counts[1] += rollup.getCompletedCount();
+        }
+
+        return buckets.entrySet().stream()
+                .filter(entry -> entry.getValue()[0] != 0 || entry.getValue()[1] != 0)
+                .map(entry -> new TaskRollupBucketDTO(entry.getKey().periodStart(), entry.getKey().categoryId(),
+                        entry.getValue()[0], entry.getValue()[1]))
+                .toList();
+    }
+
+    private void apply(Long userId, TaskState state, int sign) {
+        if (state == null) {
+            return;
+        }
+        long categoryId = state.categoryId() != null ? state.categoryId() : TaskDailyRollup.NO_CATEGORY;
+        LocalDate createdDay = state.createdAt().toLocalDate();
+        LocalDate completedDay = completedDay(state);
+
+        if (state.completed() && completedDay.equals(createdDay)) {
+            rollupRepository.increment(userId, createdDay, categoryId, sign, sign);
+            return;
+        }
+        rollupRepository.increment(userId, createdDay, categoryId, sign, 0);
+        if (state.completed()) {
+            rollupRepository.increment(userId, completedDay, categoryId, 0, sign);
+        }
+    }
+
+    // Wie im Rebuild: ohne completedAt zählt die Erledigung am Tag der Erstellung
+    private static LocalDate completedDay(TaskState state) {
+        return state.completedAt() != null ? state.completedAt().toLocalDate() : state.createdAt().toLocalDate();
+    }
+
+    private static boolean sameBuckets(TaskState before, TaskState after) {
+        return Objects.equals(before.categoryId(), after.categoryId())
+                && before.completed() == after.completed()
+                && before.createdAt().toLocalDate().equals(after.createdAt().toLocalDate())
+                && (!before.completed() || completedDay(before).equals(completedDay(after)));
+    }
+
+    private static LocalDate periodStart(LocalDate day, Granularity unit) {
+        return switch (unit) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    private static Granularity parseGranularity(String granularity) {
+        try {
+            return Granularity.valueOf(granularity.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidQueryParameterException("granularity muss day, week oder month sein");
+        }
+    }
+}
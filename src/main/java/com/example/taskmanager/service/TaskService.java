@@ -1,8 +1,13 @@
 package com.example.taskmanager.service;
 
+import com.example.taskmanager.dto.BulkOperationResponseDTO;
+import com.example.taskmanager.dto.TaskFilter;
 import com.example.taskmanager.dto.TaskRequestDTO;
 import com.example.taskmanager.dto.TaskResponseDTO;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.event.TaskChangedEvent.TaskState;
 import com.example.taskmanager.exception.CategoryNotFoundException;
+import com.example.taskmanager.exception.InvalidQueryParameterException;
 import com.example.taskmanager.exception.TaskNotFoundException;
 import com.example.taskmanager.mapper.TaskMapper;
 import com.example.taskmanager.model.Category;
@@ -10,25 +15,48 @@ import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.User;
 import com.example.taskmanager.repository.CategoryRepository;
 import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskSpecifications;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class TaskService {
 
+    // Properties von TaskResponseDTO, in der Reihenfolge, in der sie serialisiert werden
+    private static final List<String> TASK_FIELDS =
+            List.of("id", "title", "description", "completed", "createdAt", "categoryName");
+
+    // Nur nach diesen Spalten darf sortiert werden, alle sind durch Indizes abgedeckt oder billig
+    private static final List<String> SORTABLE_FIELDS =
+            List.of("id", "title", "completed", "createdAt", "updatedAt");
+
+    public static final int MAX_PAGE_SIZE = 500;
+
     private final TaskRepository taskRepository;
     private final CategoryRepository categoryRepository;
     private final TaskMapper taskMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public TaskService(TaskRepository taskRepository, CategoryRepository categoryRepository, TaskMapper taskMapper){
+    public TaskService(TaskRepository taskRepository, CategoryRepository categoryRepository, TaskMapper taskMapper,
+                       ApplicationEventPublisher eventPublisher){
         this.taskRepository = taskRepository;
         this.categoryRepository = categoryRepository;
         this.taskMapper = taskMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     private User getCurrentUser() {
@@ -45,6 +73,34 @@ public class TaskService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> findTasks(TaskFilter filter){
+        User currentUser = getCurrentUser();
+        return taskRepository.findAll(TaskSpecifications.matching(currentUser, filter), parseSort(filter.getSort())).stream()
+                .map(taskMapper::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Sparse Fieldset: liefert nur die Felder aus {@code fields} (kommagetrennt)
+     * für alle Tasks, die auf den Filter passen.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getTaskFields(String fields, TaskFilter filter){
+        User currentUser = getCurrentUser();
+        return taskRepository.findFields(
+                TaskSpecifications.matching(currentUser, filter),
+                parseSort(filter.getSort()),
+                parseFields(fields));
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> getTasksAfter(User user, Long afterId, int limit){
+        return taskRepository.findByUserAndIdGreaterThanOrderByIdAsc(user, afterId, Limit.of(limit)).stream()
+                .map(taskMapper::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public TaskResponseDTO getTaskById(Long id){
         User currentUser = getCurrentUser();
@@ -53,6 +109,7 @@ public class TaskService {
         return taskMapper.toResponseDTO(task);
     }
 
+    @Transactional
     public TaskResponseDTO createTask(TaskRequestDTO requestDTO){
         User currentUser = getCurrentUser();
 
@@ -65,14 +122,24 @@ public class TaskService {
             task.setCategory(category);
         }
         Task savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.created(savedTask));
         return taskMapper.toResponseDTO(savedTask);
     }
 
+    @Transactional
+    public List<TaskResponseDTO> createTasks(List<TaskRequestDTO> requestDTOs){
+        return requestDTOs.stream()
+                .map(this::createTask)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
     public TaskResponseDTO updateTask(Long id, TaskRequestDTO requestDTO){
         User currentUser = getCurrentUser();
 
         Task existingTask = taskRepository.findByIdAndUser(id, currentUser)
                 .orElseThrow(() -> new TaskNotFoundException(id));
+        TaskState before = TaskState.of(existingTask);
 
         existingTask.setTitle(requestDTO.getTitle());
         existingTask.setDescription(requestDTO.getDescription());
@@ -86,10 +153,14 @@ public class TaskService {
             existingTask.setCategory(null);
         }
 
+        // Flush, damit @PreUpdate updatedAt gesetzt hat, bevor der Zustand ins Event geht
         Task updatedTask = taskRepository.save(existingTask);
+        taskRepository.flush();
+        eventPublisher.publishEvent(TaskChangedEvent.updated(before, updatedTask));
         return taskMapper.toResponseDTO(updatedTask);
     }
 
+    @Transactional
     public void deleteTask(Long id){
         User currentUser = getCurrentUser();
 
@@ -97,6 +168,57 @@ public class TaskService {
                 .orElseThrow(() -> new TaskNotFoundException(id));
 
         taskRepository.delete(task);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(task));
+    }
+
+    // Bulk-Übergänge: je ein UPDATE/DELETE-Statement über alle Tasks des Users, die auf den Filter passen
+
+    @Transactional
+    public BulkOperationResponseDTO completeTasks(TaskFilter filter){
+        requireCriteria(filter, "Complete");
+        User currentUser = getCurrentUser();
+        return bulkResult(currentUser, taskRepository.updateCompleted(
+                TaskSpecifications.matching(currentUser, filter), true, LocalDateTime.now()));
+    }
+
+    @Transactional
+    public BulkOperationResponseDTO reopenTasks(TaskFilter filter){
+        requireCriteria(filter, "Reopen");
+        User currentUser = getCurrentUser();
+        return bulkResult(currentUser, taskRepository.updateCompleted(
+                TaskSpecifications.matching(currentUser, filter), false, LocalDateTime.now()));
+    }
+
+    @Transactional
+    public BulkOperationResponseDTO moveTasks(TaskFilter filter, Long targetCategoryId){
+        requireCriteria(filter, "Move");
+        User currentUser = getCurrentUser();
+        Category target = categoryRepository.findById(targetCategoryId)
+                .orElseThrow(() -> new CategoryNotFoundException(targetCategoryId));
+        return bulkResult(currentUser, taskRepository.updateCategory(
+                TaskSpecifications.matching(currentUser, filter), target, LocalDateTime.now()));
+    }
+
+    @Transactional
+    public BulkOperationResponseDTO deleteTasks(TaskFilter filter){
+        requireCriteria(filter, "Delete");
+        User currentUser = getCurrentUser();
+        return bulkResult(currentUser, (int) taskRepository.delete(TaskSpecifications.matching(currentUser, filter)));
+    }
+
+    // Ohne Kriterium träfe die Operation alle Tasks des Users, das soll nicht aus Versehen passieren
+    private static void requireCriteria(TaskFilter filter, String operation){
+        if(!filter.hasCriteria()){
+            throw new InvalidQueryParameterException(
+                    "Bulk-" + operation + " braucht mindestens ein Filterkriterium, sort allein reicht nicht");
+        }
+    }
+
+    private BulkOperationResponseDTO bulkResult(User user, int affected){
+        if(affected > 0){
+            eventPublisher.publishEvent(TaskChangedEvent.bulk(user.getId()));
+        }
+        return new BulkOperationResponseDTO(affected);
     }
 
     @Transactional(readOnly = true)
@@ -116,15 +238,70 @@ public class TaskService {
     }
 
     @Transactional(readOnly = true)
-    public List<TaskResponseDTO> getTasksByCategory(Long categoryId){
+    public Slice<TaskResponseDTO> getTasksByCategory(Long categoryId, int page, int size){
+        if(page < 0 || size < 1 || size > MAX_PAGE_SIZE){
+            throw new InvalidQueryParameterException(
+                    "page muss >= 0 und size zwischen 1 und " + MAX_PAGE_SIZE + " sein");
+        }
+        if(!categoryRepository.existsById(categoryId)){
+            throw new CategoryNotFoundException(categoryId);
+        }
+        User currentUser = getCurrentUser();
+        return taskRepository.findResponsesByCategoryIdAndUser(
+                categoryId, currentUser, PageRequest.of(page, size, Sort.by("id")));
+    }
+
+    /**
+     * Keyset-Pagination über die Tasks einer Kategorie: bis zu {@code limit} Tasks mit ID größer {@code afterId}.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> getTasksByCategoryAfter(Long categoryId, Long afterId, int limit){
+        if(!categoryRepository.existsById(categoryId)){
+            throw new CategoryNotFoundException(categoryId);
+        }
         User currentUser = getCurrentUser();
+        return taskRepository.findResponsesByCategoryIdAndUserAfter(categoryId, currentUser, afterId, Limit.of(limit));
+    }
+
+    private Sort parseSort(String sort){
+        if(sort == null || sort.isBlank()){
+            return Sort.unsorted();
+        }
+        String[] parts = sort.split(",");
+        String property = parts[0].trim();
+        if(!SORTABLE_FIELDS.contains(property)){
+            throw new InvalidQueryParameterException(
+                    "Sortierung nach '" + property + "' nicht erlaubt, erlaubt sind: " + String.join(", ", SORTABLE_FIELDS));
+        }
+        if(parts.length == 1){
+            return Sort.by(property);
+        }
+        return switch (parts[1].trim().toLowerCase()) {
+            case "asc" -> Sort.by(Sort.Direction.ASC, property);
+            case "desc" -> Sort.by(Sort.Direction.DESC, property);
+            default -> throw new InvalidQueryParameterException("Sortierrichtung muss 'asc' oder 'desc' sein");
+        };
+    }
 
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new CategoryNotFoundException(categoryId));
+    private List<String> parseFields(String fields){
+        Set<String> requested = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toSet());
 
-        return category.getTasks().stream()
-                .filter(task -> task.getUser().equals(currentUser))
-                .map(taskMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        if(requested.isEmpty()){
+            throw new InvalidQueryParameterException("fields darf nicht leer sein");
+        }
+        requested.stream()
+                .filter(field -> !TASK_FIELDS.contains(field))
+                .findFirst()
+                .ifPresent(field -> {
+                    throw new InvalidQueryParameterException(
+                            "Unbekanntes Feld '" + field + "', erlaubt sind: " + String.join(", ", TASK_FIELDS));
+                });
+
+        return TASK_FIELDS.stream()
+                .filter(requested::contains)
+                .toList();
     }
 }
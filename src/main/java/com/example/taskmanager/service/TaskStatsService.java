@@ -0,0 +1,211 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.TaskStatsResponseDTO;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.event.TaskChangedEvent.TaskState;
+import com.example.taskmanager.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Task-Zähler pro User im Speicher. Beim ersten Abruf wird einmal per GROUP BY gezählt,
+ * danach nur noch über TaskChangedEvents nach dem Commit fortgeschrieben.
+ * Jedes Event erhöht die Version des Users. Ein Zählergebnis wird nur übernommen, wenn sich die Version
+ * während der Abfrage nicht geändert hat; sonst könnte ein Event darin fehlen oder doppelt zählen.
+ * Der Reconcile-Job zählt regelmäßig neu, korrigiert Abweichungen und entfernt User, die länger als
+ * {@code app.stats.idle-timeout} nicht abgefragt wurden.
+ */
+@Service
+public class TaskStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskStatsService.class);
+
+    // Ändert sich die Version bei jedem Versuch, wird ungecacht geantwortet statt endlos neu zu zählen
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final TaskRepository taskRepository;
+    private final Duration idleTimeout;
+    private final Map<Long, UserStats> statsByUser = new ConcurrentHashMap<>();
+
+    public TaskStatsService(TaskRepository taskRepository,
+                            @Value("${app.stats.idle-timeout:PT1H}") Duration idleTimeout) {
+        this.taskRepository = taskRepository;
+        this.idleTimeout = idleTimeout;
+    }
+
+    public TaskStatsResponseDTO getStats(Long userId) {
+        UserStats stats = statsByUser.computeIfAbsent(userId, id -> new UserStats());
+        stats.touch();
+        for (int attempt = 1; ; attempt++) {
+            TaskStatsResponseDTO cached = stats.current();
+            if (cached != null) {
+                return cached;
+            }
+            // Nicht unter einem Lock laden, die DB-Abfrage soll weder Map noch Events blockieren
+            long version = stats.version();
+            Counters loaded = load(userId);
+            // Vor install kopieren, danach schreiben Events schon in loaded
+            TaskStatsResponseDTO result = loaded.toResponseDTO();
+            if (stats.install(version, loaded) || attempt == MAX_LOAD_ATTEMPTS) {
+                return result;
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.isBulk()) {
+            // Ohne userId können Tasks beliebiger User betroffen sein
+            if (event.userId() == null) {
+                statsByUser.values().forEach(UserStats::invalidate);
+            } else {
+                UserStats stats = statsByUser.get(event.userId());
+                if (stats != null) {
+                    stats.invalidate();
+                }
+            }
+            return;
+        }
+        // Noch nicht geladene User werden beim nächsten Abruf ohnehin frisch gezählt
+        UserStats stats = statsByUser.get(event.userId());
+        if (stats != null) {
+            stats.apply(event.before(), event.after());
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.stats.reconcile-interval:PT10M}",
+            fixedDelayString = "${app.stats.reconcile-interval:PT10M}")
+    public void reconcile() {
+        int repaired = 0;
+        int evicted = 0;
+        for (Map.Entry<Long, UserStats> entry : statsByUser.entrySet()) {
+            UserStats stats = entry.getValue();
+            if (stats.idleLongerThan(idleTimeout)) {
+                if (statsByUser.remove(entry.getKey(), stats)) {
+                    evicted++;
+                }
+                continue;
+            }
+            long version = stats.version();
+            if (stats.reconcile(version, load(entry.getKey()))) {
+                repaired++;
+            }
+        }
+        if (repaired > 0) {
+            log.warn("Task-Statistik für {} User korrigiert", repaired);
+        }
+        if (evicted > 0) {
+            log.debug("Task-Statistik für {} inaktive User verworfen", evicted);
+        }
+    }
+
+    private Counters load(Long userId) {
+        Counters counters = new Counters();
+        List<Object[]> rows = taskRepository.countByUserIdGroupedByCategoryAndCompleted(userId);
+        for (Object[] row : rows) {
+            counters.add((Long) row[0], (Boolean) row[1], (Long) row[2]);
+        }
+        return counters;
+    }
+
+    /**
+     * Zähler eines Users samt Version. Alle Zugriffe sind kurz und ohne I/O, deshalb genügt synchronized.
+     */
+    private static final class UserStats {
+
+        private long version;
+        private Counters counters;
+        private volatile long lastAccessNanos = System.nanoTime();
+
+        void touch() {
+            lastAccessNanos = System.nanoTime();
+        }
+
+        boolean idleLongerThan(Duration timeout) {
+            return System.nanoTime() - lastAccessNanos > timeout.toNanos();
+        }
+
+        synchronized long version() {
+            return version;
+        }
+
+        synchronized TaskStatsResponseDTO current() {
+            return counters != null ? counters.toResponseDTO() : null;
+        }
+
+        synchronized boolean install(long expectedVersion, Counters loaded) {
+            if (version != expectedVersion) {
+                return false;
+            }
+            counters = loaded;
+            return true;
+        }
+
+        // Liefert true, wenn die gecachten Zähler von der Datenbank abwichen
+        synchronized boolean reconcile(long expectedVersion, Counters fresh) {
+            // Zwischendurch kam ein Event: fresh ist schon veraltet, beim nächsten Lauf erneut prüfen
+            if (version != expectedVersion) {
+                return false;
+            }
+            boolean repaired = counters != null && !counters.toResponseDTO().equals(fresh.toResponseDTO());
+            counters = fresh;
+            return repaired;
+        }
+
+        synchronized void apply(TaskState before, TaskState after) {
+            version++;
+            if (counters != null) {
+                counters.apply(before, -1);
+                counters.apply(after, 1);
+            }
+        }
+
+        synchronized void invalidate() {
+            version++;
+            counters = null;
+        }
+    }
+
+    // Nicht threadsicher, nur unter dem Lock von UserStats oder vor der Übergabe benutzen
+    private static final class Counters {
+
+        private long total;
+        private long completed;
+        private long uncategorized;
+        private final Map<Long, Long> byCategory = new HashMap<>();
+
+        void apply(TaskState state, int sign) {
+            if (state != null) {
+                add(state.categoryId(), state.completed(), sign);
+            }
+        }
+
+        void add(Long categoryId, boolean isCompleted, long delta) {
+            total += delta;
+            if (isCompleted) {
+                completed += delta;
+            }
+            if (categoryId == null) {
+                uncategorized += delta;
+            } else if (byCategory.merge(categoryId, delta, Long::sum) == 0) {
+                byCategory.remove(categoryId);
+            }
+        }
+
+        TaskStatsResponseDTO toResponseDTO() {
+            return new TaskStatsResponseDTO(total, completed, total - completed, uncategorized, new HashMap<>(byCategory));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.taskmanager.timing;
+
+import java.util.Locale;
+
+/**
+ * Sammelt die Phasen-Zeiten des aktuellen Requests (ThreadLocal, System.nanoTime-Basis).
+ * Angelegt vom ServerTimingFilter; ohne laufende Messung sind enter/exit ein einzelnes ThreadLocal-get.
+ * Verschachtelte Aufrufe derselben Phase (Mapper ruft Mapper) zählen nur einmal. Phasen dürfen sich
+ * überlappen, z.B. steckt der User-Lookup in auth auch in db. Worker-Threads (Dashboard, Batch)
+ * werden nicht erfasst.
+ */
+public final class RequestTimings {
+
+    public enum Phase {
+        AUTH("auth"),
+        DB("db"),
+        MAPPING("map"),
+        SERIALIZATION("ser");
+
+        private final String metric;
+
+        Phase(String metric) {
+            this.metric = metric;
+        }
+
+        public String metric() {
+            return metric;
+        }
+    }
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+    private static final int PHASES = Phase.values().length;
+
+    private final long startNanos = System.nanoTime();
+    private final long[] nanos = new long[PHASES];
+    private final long[] enteredAt = new long[PHASES];
+    private final int[] depth = new int[PHASES];
+    private final int[] counts = new int[PHASES];
+
+    private RequestTimings() {
+    }
+
+    static RequestTimings begin() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public static void enter(Phase phase) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null && timings.depth[phase.ordinal()]++ == 0) {
+            timings.enteredAt[phase.ordinal()] = System.nanoTime();
+        }
+    }
+
+    public static void exit(Phase phase) {
+        RequestTimings timings = CURRENT.get();
+        if (timings == null) {
+            return;
+        }
+        int i = phase.ordinal();
+        // Ein exit ohne enter (Messung mitten im Aufruf gestartet) wird ignoriert
+        if (timings.depth[i] > 0 && --timings.depth[i] == 0) {
+            timings.nanos[i] += System.nanoTime() - timings.enteredAt[i];
+            timings.counts[i]++;
+        }
+    }
+
+    public long nanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    public int count(Phase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Wert für den Server-Timing-Header (W3C), z.B. {@code auth;dur=1.2, db;dur=3.4;desc="5 statements", total;dur=7.9}.
+     * Phasen, die im Request nicht vorkamen, fehlen.
+     */
+    public String toHeader(long totalNanos) {
+        StringBuilder header = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            if (count(phase) == 0) {
+                continue;
+            }
+            header.append(phase.metric()).append(";dur=").append(millis(nanos(phase)));
+            if (phase == Phase.DB) {
+                header.append(";desc=\"").append(count(phase)).append(" statements\"");
+            }
+            header.append(", ");
+        }
+        return header.append("total;dur=").append(millis(totalNanos)).toString();
+    }
+
+    static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+}
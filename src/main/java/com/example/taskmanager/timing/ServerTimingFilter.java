@@ -0,0 +1,77 @@
+package com.example.taskmanager.timing;
+
+import com.example.taskmanager.timing.RequestTimings.Phase;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Opt-in (app.server-timing.enabled): misst jeden /api-Request und hängt die Phasen als
+ * Server-Timing-Header an. Der Body wird dafür gepuffert, sonst wäre der Header nach der
+ * Serialisierung schon weg. Requests über app.server-timing.slow-threshold werden als
+ * key=value-Zeile geloggt. Läuft vor dem ConcurrencyLimitFilter, total enthält also auch Wartezeit.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 20)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private static final Logger log = LoggerFactory.getLogger(ServerTimingFilter.class);
+
+    private final boolean enabled;
+    private final long slowThresholdNanos;
+
+    public ServerTimingFilter(@Value("${app.server-timing.enabled:false}") boolean enabled,
+                              @Value("${app.server-timing.slow-threshold:PT0.5S}") Duration slowThreshold) {
+        this.enabled = enabled;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Den NDJSON-Stream zu puffern würde ihn zu einer normalen Antwort machen
+        String path = request.getRequestURI();
+        return !enabled || !path.startsWith("/api/") || path.equals("/api/tasks/stream");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        RequestTimings timings = RequestTimings.begin();
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            RequestTimings.end();
+            long total = timings.elapsedNanos();
+            wrapper.setHeader(SERVER_TIMING, timings.toHeader(total));
+            wrapper.copyBodyToResponse();
+            if (total >= slowThresholdNanos) {
+                logSlowRequest(request, wrapper.getStatus(), timings, total);
+            }
+        }
+    }
+
+    private static void logSlowRequest(HttpServletRequest request, int status, RequestTimings timings, long total) {
+        log.warn("slow_request method={} path={} status={} total_ms={} auth_ms={} db_ms={} db_statements={} map_ms={} ser_ms={}",
+                request.getMethod(), request.getRequestURI(), status,
+                RequestTimings.millis(total),
+                RequestTimings.millis(timings.nanos(Phase.AUTH)),
+                RequestTimings.millis(timings.nanos(Phase.DB)),
+                timings.count(Phase.DB),
+                RequestTimings.millis(timings.nanos(Phase.MAPPING)),
+                RequestTimings.millis(timings.nanos(Phase.SERIALIZATION)));
+    }
+}
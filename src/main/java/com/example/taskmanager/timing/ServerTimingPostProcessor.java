@@ -0,0 +1,48 @@
+package com.example.taskmanager.timing;
+
+import com.example.taskmanager.mapper.CategoryMapper;
+import com.example.taskmanager.mapper.TaskMapper;
+import com.example.taskmanager.timing.RequestTimings.Phase;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hängt die Mapper für Server-Timing ein, aber nur bei app.server-timing.enabled: sie bekommen einen
+ * Proxy für die Phase map. Die Phase db misst die InstrumentedDataSource.
+ * Ist das Feature aus, bleiben alle Beans unverändert.
+ */
+@Component
+public class ServerTimingPostProcessor implements BeanPostProcessor {
+
+    private final boolean enabled;
+
+    // Environment statt @Value, BeanPostProcessors entstehen vor der übrigen Konfiguration
+    public ServerTimingPostProcessor(Environment environment) {
+        this.enabled = environment.getProperty("app.server-timing.enabled", Boolean.class, false);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled) {
+            return bean;
+        }
+        if (bean instanceof TaskMapper || bean instanceof CategoryMapper) {
+            ProxyFactory proxyFactory = new ProxyFactory(bean);
+            proxyFactory.setProxyTargetClass(true);
+            proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+                // Lazy-Loading beim Mappen landet zusätzlich in db
+                RequestTimings.enter(Phase.MAPPING);
+                try {
+                    return invocation.proceed();
+                } finally {
+                    RequestTimings.exit(Phase.MAPPING);
+                }
+            });
+            return proxyFactory.getProxy();
+        }
+        return bean;
+    }
+}
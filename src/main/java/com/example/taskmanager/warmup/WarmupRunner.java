@@ -0,0 +1,237 @@
+package com.example.taskmanager.warmup;
+
+import com.example.taskmanager.dto.CategoryResponseDTO;
+import com.example.taskmanager.dto.TaskFilter;
+import com.example.taskmanager.dto.TaskRequestDTO;
+import com.example.taskmanager.dto.TaskResponseDTO;
+import com.example.taskmanager.jdbc.StatementStatistics;
+import com.example.taskmanager.model.Role;
+import com.example.taskmanager.model.User;
+import com.example.taskmanager.repository.UserRepository;
+import com.example.taskmanager.security.CustomUserDetailsService;
+import com.example.taskmanager.security.JwtTokenProvider;
+import com.example.taskmanager.service.CategoryService;
+import com.example.taskmanager.service.TaskService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wärmt die heißen Pfade vor der Readiness auf: Spring Boot meldet ACCEPTING_TRAFFIC erst, wenn alle
+ * ApplicationRunner fertig sind, bis dahin liefert /actuator/health/readiness OUT_OF_SERVICE.
+ * Jede Iteration geht mit einem eigenen Scratch-User durch JWT-Erzeugung und -Prüfung, TaskService samt
+ * Mappern (lesen und schreiben), CategoryService und Jackson, und zwar in einer Transaktion, die am Ende
+ * zurückgerollt wird: in der Datenbank landet nichts. Die ersten http-iterations schicken zusätzlich einen
+ * anonymen, lesenden Request durch die Security-Filterkette.
+ * Ein Fehler im Warm-up verhindert den Start nicht, die App wird dann eben kalt ready.
+ */
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+    // Vergleichsbasis für den Effekt: Median der letzten Iterationen gegen die erste
+    private static final int TAIL = 10;
+
+    private final UserRepository userRepository;
+    private final TaskService taskService;
+    private final CategoryService categoryService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final CustomUserDetailsService userDetailsService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationContext applicationContext;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<StatementStatistics> statementStatistics;
+    private final boolean enabled;
+    private final int iterations;
+    private final int httpIterations;
+    private final Duration maxDuration;
+
+    public WarmupRunner(UserRepository userRepository,
+                        TaskService taskService,
+                        CategoryService categoryService,
+                        JwtTokenProvider jwtTokenProvider,
+                        CustomUserDetailsService userDetailsService,
+                        ObjectMapper objectMapper,
+                        PlatformTransactionManager transactionManager,
+                        ApplicationContext applicationContext,
+                        ObjectProvider<MeterRegistry> meterRegistry,
+                        ObjectProvider<StatementStatistics> statementStatistics,
+                        @Value("${app.warmup.enabled:true}") boolean enabled,
+                        @Value("${app.warmup.iterations:200}") int iterations,
+                        @Value("${app.warmup.http-iterations:20}") int httpIterations,
+                        @Value("${app.warmup.max-duration:PT20S}") Duration maxDuration) {
+        this.userRepository = userRepository;
+        this.taskService = taskService;
+        this.categoryService = categoryService;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userDetailsService = userDetailsService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.applicationContext = applicationContext;
+        this.meterRegistry = meterRegistry;
+        this.statementStatistics = statementStatistics;
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.httpIterations = httpIterations;
+        this.maxDuration = maxDuration;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // Zur Laufzeit statt per @ConditionalOnProperty, mit AOT würde die Bedingung schon beim Build ausgewertet
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = start + maxDuration.toNanos();
+        List<Long> durations = new ArrayList<>(iterations);
+        try {
+            RestClient http = httpClient();
+            Long categoryId = categoryService.getAllCategories().stream()
+                    .map(CategoryResponseDTO::getId)
+                    .findFirst()
+                    .orElse(null);
+
+            while (durations.size() < iterations && System.nanoTime() < deadline) {
+                long iterationStart = System.nanoTime();
+                // Alles in einer Transaktion, die zurückgerollt wird: auch ein Abbruch mitten im Warm-up
+                // hinterlässt weder Scratch-User noch Tasks, und die Commit-Listener (Stats, Rollups) sehen nichts
+                transactionTemplate.executeWithoutResult(status -> {
+                    status.setRollbackOnly();
+                    iteration(categoryId);
+                });
+                durations.add(System.nanoTime() - iterationStart);
+                // Außerhalb der Messung und der Transaktion, der HTTP-Request läuft in einem anderen Thread
+                if (http != null && durations.size() <= httpIterations) {
+                    httpRequest(http);
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("warmup_failed iterations={} error={}", durations.size(), ex.toString());
+        } finally {
+            SecurityContextHolder.clearContext();
+            // Die Statement-Statistik soll nur echten Traffic zeigen
+            statementStatistics.ifAvailable(StatementStatistics::reset);
+        }
+        report(durations, System.nanoTime() - start);
+    }
+
+    private void iteration(Long categoryId) {
+        User user = userRepository.save(scratchUser());
+        Authentication authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        try {
+            // Wie im JwtAuthenticationFilter: Token prüfen, Username lesen, User laden
+            String token = jwtTokenProvider.generateToken(authentication);
+            jwtTokenProvider.validateToken(token);
+            userDetailsService.loadUserByUsername(jwtTokenProvider.getUsernameFromToken(token));
+
+            // Ein paar Tasks als Grundbestand, damit Listen und Mapper mehr als eine Zeile sehen
+            taskService.createTasks(List.of(
+                    request("Warm-up Bericht", false, categoryId),
+                    request("Warm-up Einkauf", true, categoryId),
+                    request("Warm-up ohne Kategorie", false, null)));
+            TaskResponseDTO created = taskService.createTask(request("Warm-up Task", false, categoryId));
+            taskService.updateTask(created.getId(), request("Warm-up Task erledigt", true, categoryId));
+            List<TaskResponseDTO> tasks = taskService.getAllTasks();
+            taskService.findTasks(TaskFilter.completed(true));
+            taskService.searchTasks("warm-up");
+            taskService.getTaskById(created.getId());
+            List<CategoryResponseDTO> categories = categoryService.getAllCategories();
+
+            objectMapper.writeValueAsBytes(tasks);
+            objectMapper.readValue(objectMapper.writeValueAsString(request("Warm-up Request", false, categoryId)),
+                    TaskRequestDTO.class);
+            objectMapper.writeValueAsBytes(categories);
+            taskService.deleteTask(created.getId());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    // Nur lesend und ohne Token: der Scratch-User ist nie committed. Geht trotzdem durch Tomcat, alle Filter,
+    // die Security-Filterkette und den Entry Point; die Antwort ist 401
+    private void httpRequest(RestClient http) {
+        http.get().uri("/api/tasks")
+                .retrieve()
+                .onStatus(status -> true, (request, response) -> { })
+                .toBodilessEntity();
+    }
+
+    // Nur mit echtem Webserver (nicht in MockMvc-Tests) läuft der HTTP-Teil
+    private RestClient httpClient() {
+        if (httpIterations <= 0 || !(applicationContext instanceof WebServerApplicationContext context)
+                || context.getWebServer() == null) {
+            return null;
+        }
+        return RestClient.create("http://localhost:" + context.getWebServer().getPort());
+    }
+
+    private void report(List<Long> durations, long totalNanos) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Timer.builder("warmup.duration").register(registry).record(totalNanos, TimeUnit.NANOSECONDS);
+            Timer iterationTimer = Timer.builder("warmup.iteration").register(registry);
+            durations.forEach(nanos -> iterationTimer.record(nanos, TimeUnit.NANOSECONDS));
+        }
+        if (durations.isEmpty()) {
+            log.info("warmup_completed iterations=0 duration_ms={}", millis(totalNanos));
+            return;
+        }
+        long first = durations.getFirst();
+        long[] tail = durations.subList(Math.max(0, durations.size() - TAIL), durations.size()).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        long warm = tail[tail.length / 2];
+        log.info("warmup_completed iterations={} duration_ms={} first_iteration_ms={} warm_iteration_ms={} speedup={}",
+                durations.size(), millis(totalNanos), millis(first), millis(warm),
+                String.format("%.1f", (double) first / Math.max(1, warm)));
+    }
+
+    private static User scratchUser() {
+        String name = "warmup-" + UUID.randomUUID();
+        User user = new User();
+        user.setUsername(name);
+        user.setEmail(name + "@warmup.invalid");
+        // Kein gültiger BCrypt-Hash, ein Login mit diesem User ist damit unmöglich
+        user.setPassword("!");
+        user.setRole(Role.USER);
+        user.setEnabled(true);
+        return user;
+    }
+
+    private static TaskRequestDTO request(String title, boolean completed, Long categoryId) {
+        return new TaskRequestDTO(title, "Synthetischer Task aus dem Warm-up", completed, categoryId);
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 100_000.0) / 10.0;
+    }
+}
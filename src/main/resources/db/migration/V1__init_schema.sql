@@ -0,0 +1,44 @@
+-- Ausgangsschema, entspricht den JPA-Entities (vorher per ddl-auto erzeugt)
+
+create table users (
+    id         bigint generated by default as identity primary key,
+    username   varchar(255) not null,
+    email      varchar(255) not null,
+    password   varchar(255) not null,
+    role       varchar(20)  not null,
+    created_at timestamp(6) not null,
+    enabled    boolean      not null,
+    constraint uk_users_username unique (username),
+    constraint uk_users_email unique (email)
+);
+
+create table categories (
+    id          bigint generated by default as identity primary key,
+    name        varchar(255) not null,
+    description varchar(500),
+    constraint uk_categories_name unique (name)
+);
+
+create table tasks (
+    id          bigint generated by default as identity primary key,
+    title       varchar(100) not null,
+    description varchar(500),
+    completed   boolean      not null,
+    created_at  timestamp(6) not null,
+    updated_at  timestamp(6),
+    category_id bigint,
+    user_id     bigint       not null,
+    constraint fk_tasks_category foreign key (category_id) references categories (id),
+    constraint fk_tasks_user foreign key (user_id) references users (id)
+);
+
+create table verification_tokens (
+    id         bigint generated by default as identity primary key,
+    token      varchar(255) not null,
+    user_id    bigint       not null,
+    expires_at timestamp(6) not null,
+    used       boolean      not null,
+    constraint uk_verification_tokens_token unique (token),
+    constraint uk_verification_tokens_user unique (user_id),
+    constraint fk_verification_tokens_user foreign key (user_id) references users (id)
+);
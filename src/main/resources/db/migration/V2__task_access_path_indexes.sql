@@ -0,0 +1,6 @@
+-- Composite-Indizes für die Zugriffspfade von TaskRepository (immer user_id bzw. category_id zuerst)
+
+create index idx_tasks_user_completed on tasks (user_id, completed);
+create index idx_tasks_user_created on tasks (user_id, created_at);
+create index idx_tasks_user_updated on tasks (user_id, updated_at);
+create index idx_tasks_category_user on tasks (category_id, user_id);
@@ -0,0 +1,27 @@
+-- Tägliche Rollups pro (User, Kategorie, Tag) für die Analytics-Endpunkte.
+-- category_id = 0 steht für "ohne Kategorie", damit die Spalte Teil des Primärschlüssels sein kann.
+-- completed_count zählt erledigte Tasks am Tag ihres letzten updated_at (ein completed_at gibt es nicht).
+
+create table task_daily_rollups (
+    user_id         bigint not null,
+    bucket_date     date   not null,
+    category_id     bigint not null,
+    created_count   bigint not null,
+    completed_count bigint not null,
+    constraint pk_task_daily_rollups primary key (user_id, bucket_date, category_id),
+    constraint fk_task_daily_rollups_user foreign key (user_id) references users (id)
+);
+
+-- Backfill aus den bestehenden Tasks (gleiche Abfrage wie TaskRollupRepositoryImpl.rebuild)
+insert into task_daily_rollups (user_id, bucket_date, category_id, created_count, completed_count)
+select user_id, bucket_date, category_id, sum(created_count), sum(completed_count)
+from (
+    select user_id, cast(created_at as date) as bucket_date, coalesce(category_id, 0) as category_id,
+           1 as created_count, 0 as completed_count
+    from tasks
+    union all
+    select user_id, cast(coalesce(updated_at, created_at) as date), coalesce(category_id, 0), 0, 1
+    from tasks
+    where completed = true
+) buckets
+group by user_id, bucket_date, category_id;
@@ -0,0 +1,8 @@
+-- Zeitpunkt, an dem ein Task erledigt wurde. Die Rollups zählen Erledigungen an diesem Tag statt am Tag
+-- des letzten updated_at; sonst wandert eine alte Erledigung bei jeder Titeländerung auf heute.
+-- Wiedereröffnen setzt die Spalte zurück auf NULL.
+
+alter table tasks add column completed_at timestamp(6);
+
+-- Bestehende erledigte Tasks: bestmögliche Schätzung wie bisher in den Rollups, damit diese gültig bleiben
+update tasks set completed_at = coalesce(updated_at, created_at) where completed = true;
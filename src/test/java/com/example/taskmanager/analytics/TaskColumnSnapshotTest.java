@@ -0,0 +1,46 @@
+package com.example.taskmanager.analytics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TaskColumnSnapshot Tests")
+public class TaskColumnSnapshotTest {
+
+    @Test
+    @DisplayName("Paralleler Scan sollte dasselbe Ergebnis liefern wie eine sequentielle Zählung")
+    void scan_ShouldMatchSequentialCount() {
+        // Arrange: genug Zeilen für mehrere Fork/Join-Teilbereiche
+        int rows = 300_000;
+        TaskColumnSnapshot.Builder builder = TaskColumnSnapshot.builder(1000);
+        long expectedCompletedInCategory = 0;
+        for (int i = 0; i < rows; i++) {
+            long categoryId = i % 3 == 0 ? 0 : 100 + i % 5;
+            boolean completed = i % 7 == 0;
+            builder.add(1000 + i % 11, categoryId, completed, i, i);
+            if (completed && categoryId == 102) {
+                expectedCompletedInCategory++;
+            }
+        }
+
+        // Act
+        TaskColumnSnapshot snapshot = builder.build();
+        long completedInCategory = snapshot.scan((snap, from, to) -> {
+            long count = 0;
+            for (int row = from; row < to; row++) {
+                if (snap.isCompleted(row) && snap.categoryId(snap.categoryIndex(row)) == 102) {
+                    count++;
+                }
+            }
+            return count;
+        }, Long::sum);
+
+        // Assert
+        assertThat(snapshot.size()).isEqualTo(rows);
+        assertThat(snapshot.userCount()).isEqualTo(11);
+        assertThat(snapshot.categoryCount()).isEqualTo(6);
+        assertThat(snapshot.categoryId(TaskColumnSnapshot.NO_CATEGORY)).isZero();
+        assertThat(completedInCategory).isEqualTo(expectedCompletedInCategory);
+    }
+}
@@ -1,10 +1,17 @@
 package com.example.taskmanager.controller;
 
+import com.example.taskmanager.dto.TaskFilter;
 import com.example.taskmanager.dto.TaskRequestDTO;
 import com.example.taskmanager.dto.TaskResponseDTO;
+import com.example.taskmanager.exception.InvalidQueryParameterException;
+import com.example.taskmanager.ratelimit.RateLimits;
 import com.example.taskmanager.security.JwtAuthenticationFilter;
+import com.example.taskmanager.service.TaskRollupService;
 import com.example.taskmanager.service.TaskService;
+import com.example.taskmanager.service.TaskStatsService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,8 +28,11 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -55,6 +65,15 @@ public class TaskControllerTest {
     @MockitoBean
     private TaskService taskService;
 
+    @MockitoBean
+    private TaskStatsService taskStatsService;
+
+    @MockitoBean
+    private TaskRollupService taskRollupService;
+
+    // Vom RateLimitFilter benötigt; als Mock ist das Limit aus
+    @MockitoBean
+    private RateLimits rateLimits;
 
     private TaskResponseDTO responseDTO;
     private TaskRequestDTO requestDTO;
@@ -97,6 +116,76 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$[0].completed").value(false));
     }
 
+    @Test
+    @DisplayName("GET /api/tasks - Sollte bei unbekanntem Sortierfeld 400 liefern")
+    @WithMockUser
+    void getAllTasks_WithUnknownSortField_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(taskService.findTasks(any(TaskFilter.class)))
+                .thenThrow(new InvalidQueryParameterException("Sortierung nach 'password' nicht erlaubt"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").param("sort", "password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Sortierung nach 'password' nicht erlaubt"));
+        verify(taskService).findTasks(argThat(filter -> "password".equals(filter.getSort())));
+    }
+
+    @Test
+    @DisplayName("Bulk-Endpunkte - Sollten bei nur ?sort= 400 liefern")
+    @WithMockUser
+    void bulkOperations_WithSortOnly_ShouldReturnBadRequest() throws Exception {
+        // Arrange: die Prüfung läuft vor jedem Repository-Zugriff, der echte Code reicht also
+        when(taskService.deleteTasks(any(TaskFilter.class))).thenCallRealMethod();
+        when(taskService.completeTasks(any(TaskFilter.class))).thenCallRealMethod();
+
+        // Act & Assert
+        mockMvc.perform(delete("/api/tasks/bulk").param("sort", "id"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/tasks/bulk/complete").param("sort", "id"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks - Sollte bei Accept: application/cbor CBOR liefern")
+    @WithMockUser
+    void getAllTasks_WithCborAccept_ShouldReturnCbor() throws Exception {
+        // Arrange
+        when(taskService.getAllTasks()).thenReturn(Arrays.asList(responseDTO));
+
+        // Act
+        byte[] body = mockMvc.perform(get("/api/tasks")
+                        .accept(MediaType.valueOf("application/cbor")))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        JsonNode tasks = new CBORMapper().readTree(body);
+        assertThat(tasks).hasSize(1);
+        assertThat(tasks.get(0).get("title").asText()).isEqualTo("Test Task");
+        assertThat(tasks.get(0).get("createdAt").isTextual()).isTrue();
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks?fields= - Sollte nur die angefragten Felder zurückgeben")
+    @WithMockUser
+    void getAllTasks_WithFields_ShouldReturnOnlyRequestedFields() throws Exception {
+        // Arrange
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 1L);
+        row.put("title", "Test Task");
+        when(taskService.getTaskFields(eq("id,title"), any(TaskFilter.class))).thenReturn(List.of(row));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").param("fields", "id,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].title").value("Test Task"))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+        verify(taskService, never()).getAllTasks();
+    }
+
     @Test
     @DisplayName("GET api/tasks/{id} - Sollte Task nach ID zurückgeben")
     @WithMockUser
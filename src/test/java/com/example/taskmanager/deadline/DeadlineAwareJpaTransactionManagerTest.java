@@ -0,0 +1,80 @@
+package com.example.taskmanager.deadline;
+
+import com.example.taskmanager.config.TransactionConfig;
+import com.example.taskmanager.exception.DeadlineExceededException;
+import com.example.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import(TransactionConfig.class)
+// Die Transaktionen startet der Test selbst, erst nachdem die Deadline gesetzt ist
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("DeadlineAwareJpaTransactionManager Tests")
+public class DeadlineAwareJpaTransactionManagerTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    @DisplayName("Sollte keine Transaktion mehr starten, wenn die Deadline abgelaufen ist")
+    void begin_ShouldFail_WhenDeadlineExpired() {
+        // Arrange
+        RequestDeadline.set(-1);
+
+        // Act & Assert
+        assertThat(transactionManager).isInstanceOf(DeadlineAwareJpaTransactionManager.class);
+        assertThatThrownBy(() -> transactionTemplate.execute(status -> taskRepository.count()))
+                .isInstanceOf(DeadlineExceededException.class);
+    }
+
+    @Test
+    @DisplayName("Sollte Queries abbrechen, sobald die Deadline während der Transaktion abläuft")
+    void query_ShouldFail_WhenDeadlinePassesDuringTransaction() {
+        // Arrange
+        RequestDeadline.set(50);
+
+        // Act & Assert: die erste Query läuft noch, nach Ablauf (plus Rundungspuffer) wird abgebrochen
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            taskRepository.count();
+            sleep(600);
+            taskRepository.count();
+        })).isInstanceOf(TransactionTimedOutException.class);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.taskmanager.grpc;
+
+import com.example.taskmanager.dto.TaskRequestDTO;
+import com.example.taskmanager.exception.CategoryNotFoundException;
+import com.example.taskmanager.exception.TaskNotFoundException;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+@DisplayName("GrpcExceptionTranslator Tests")
+public class GrpcExceptionTranslatorTest {
+
+    private static final ValidatorFactory VALIDATOR_FACTORY = Validation.buildDefaultValidatorFactory();
+
+    private final GrpcExceptionTranslator translator = new GrpcExceptionTranslator(VALIDATOR_FACTORY.getValidator());
+
+    @AfterAll
+    static void closeValidator() {
+        VALIDATOR_FACTORY.close();
+    }
+
+    @Test
+    @DisplayName("Sollte fehlende Tasks und Kategorien als NOT_FOUND melden")
+    void translate_ShouldMapNotFound() {
+        // Act & Assert
+        assertThat(translator.translate(new TaskNotFoundException(1L)).getStatus().getCode())
+                .isEqualTo(Status.Code.NOT_FOUND);
+        assertThat(translator.translate(new CategoryNotFoundException(2L)).getStatus().getCode())
+                .isEqualTo(Status.Code.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("Sollte Validierungsfehler als INVALID_ARGUMENT mit Feldnamen melden")
+    void translate_ShouldMapValidationErrors() {
+        // Arrange
+        ConstraintViolationException violation = catchThrowableOfType(ConstraintViolationException.class,
+                () -> translator.validate(new TaskRequestDTO("ab", null, false, null)));
+
+        // Act
+        StatusRuntimeException result = translator.translate(violation);
+
+        // Assert
+        assertThat(result.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+        assertThat(result.getStatus().getDescription()).contains("title");
+    }
+
+    @Test
+    @DisplayName("Sollte gRPC-Status unverändert durchreichen und alles andere als INTERNAL ohne Details melden")
+    void translate_ShouldPassThroughStatusAndHideInternals() {
+        // Arrange
+        StatusRuntimeException exhausted = Status.RESOURCE_EXHAUSTED.asRuntimeException();
+
+        // Act
+        StatusRuntimeException internal = translator.translate(new IllegalStateException("Verbindung zu db-01 verloren"));
+
+        // Assert
+        assertThat(translator.translate(exhausted)).isSameAs(exhausted);
+        assertThat(internal.getStatus().getCode()).isEqualTo(Status.Code.INTERNAL);
+        assertThat(internal.getStatus().getDescription()).doesNotContain("db-01");
+    }
+}
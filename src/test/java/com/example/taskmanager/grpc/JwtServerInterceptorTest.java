@@ -0,0 +1,114 @@
+package com.example.taskmanager.grpc;
+
+import com.example.taskmanager.model.User;
+import com.example.taskmanager.security.CustomUserDetailsService;
+import com.example.taskmanager.security.JwtTokenProvider;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtServerInterceptor Tests")
+public class JwtServerInterceptorTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Mock
+    private ServerCall<String, String> call;
+
+    @Mock
+    private ServerCallHandler<String, String> next;
+
+    @InjectMocks
+    private JwtServerInterceptor interceptor;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Sollte Calls ohne Bearer-Token mit UNAUTHENTICATED schließen")
+    void interceptCall_ShouldRejectMissingToken() {
+        // Act
+        interceptor.interceptCall(call, new Metadata(), next);
+
+        // Assert
+        assertClosedUnauthenticated();
+        verifyNoInteractions(jwtTokenProvider);
+    }
+
+    @Test
+    @DisplayName("Sollte Calls mit ungültigem Token mit UNAUTHENTICATED schließen")
+    void interceptCall_ShouldRejectInvalidToken() {
+        // Arrange
+        when(jwtTokenProvider.validateToken("kaputt")).thenReturn(false);
+
+        // Act
+        interceptor.interceptCall(call, bearer("kaputt"), next);
+
+        // Assert
+        assertClosedUnauthenticated();
+        verifyNoInteractions(customUserDetailsService);
+    }
+
+    @Test
+    @DisplayName("Sollte den User für die Callbacks in den SecurityContext setzen und danach wieder entfernen")
+    void interceptCall_ShouldAuthenticateCallbacks() {
+        // Arrange
+        User user = new User();
+        user.setUsername("testuser");
+        when(jwtTokenProvider.validateToken("gueltig")).thenReturn(true);
+        when(jwtTokenProvider.getUsernameFromToken("gueltig")).thenReturn("testuser");
+        when(customUserDetailsService.loadUserByUsername("testuser")).thenReturn(user);
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+        when(next.startCall(any(), any())).thenReturn(new ServerCall.Listener<>() {
+            @Override
+            public void onMessage(String message) {
+                seen.set(SecurityContextHolder.getContext().getAuthentication());
+            }
+        });
+
+        // Act
+        interceptor.interceptCall(call, bearer("gueltig"), next).onMessage("request");
+
+        // Assert
+        verify(call, never()).close(any(), any());
+        assertThat(seen.get().getPrincipal()).isSameAs(user);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private void assertClosedUnauthenticated() {
+        ArgumentCaptor<Status> status = ArgumentCaptor.forClass(Status.class);
+        verify(call).close(status.capture(), any());
+        assertThat(status.getValue().getCode()).isEqualTo(Status.Code.UNAUTHENTICATED);
+        verify(next, never()).startCall(any(), any());
+    }
+
+    private static Metadata bearer(String token) {
+        Metadata headers = new Metadata();
+        headers.put(JwtServerInterceptor.AUTHORIZATION, "Bearer " + token);
+        return headers;
+    }
+}
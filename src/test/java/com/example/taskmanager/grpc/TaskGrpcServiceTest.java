@@ -0,0 +1,149 @@
+package com.example.taskmanager.grpc;
+
+import com.example.taskmanager.dto.TaskResponseDTO;
+import com.example.taskmanager.grpc.proto.BulkCreateTasksResponse;
+import com.example.taskmanager.grpc.proto.CategoryIdRequest;
+import com.example.taskmanager.grpc.proto.TaskRequest;
+import com.example.taskmanager.grpc.proto.TaskResponse;
+import com.example.taskmanager.service.TaskService;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskGrpcService Tests")
+public class TaskGrpcServiceTest {
+
+    private static final ValidatorFactory VALIDATOR_FACTORY = Validation.buildDefaultValidatorFactory();
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private StreamObserver<BulkCreateTasksResponse> responseObserver;
+
+    @Mock
+    private StreamObserver<TaskResponse> taskObserver;
+
+    private TaskGrpcService taskGrpcService;
+
+    @AfterAll
+    static void closeValidator() {
+        VALIDATOR_FACTORY.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        taskGrpcService = new TaskGrpcService(taskService, new GrpcMapper(),
+                new GrpcExceptionTranslator(VALIDATOR_FACTORY.getValidator()), 3);
+    }
+
+    @Test
+    @DisplayName("Sollte alle Tasks des Streams erst beim Abschluss in einem Aufruf anlegen")
+    void bulkCreateTasks_ShouldCreateAllOnCompletion() {
+        // Arrange
+        when(taskService.createTasks(anyList())).thenReturn(List.of(
+                new TaskResponseDTO(1L, "Task eins", null, false, LocalDateTime.now(), null),
+                new TaskResponseDTO(2L, "Task zwei", null, false, LocalDateTime.now(), null)));
+        StreamObserver<TaskRequest> requests = taskGrpcService.bulkCreateTasks(responseObserver);
+
+        // Act
+        requests.onNext(task("Task eins"));
+        requests.onNext(task("Task zwei"));
+        verifyNoInteractions(taskService);
+        requests.onCompleted();
+
+        // Assert
+        ArgumentCaptor<BulkCreateTasksResponse> response = ArgumentCaptor.forClass(BulkCreateTasksResponse.class);
+        verify(responseObserver).onNext(response.capture());
+        verify(responseObserver).onCompleted();
+        assertThat(response.getValue().getTasksList()).extracting(t -> t.getTitle())
+                .containsExactly("Task eins", "Task zwei");
+    }
+
+    @Test
+    @DisplayName("Sollte Streams über max-bulk-messages mit RESOURCE_EXHAUSTED abbrechen und nichts anlegen")
+    void bulkCreateTasks_ShouldRejectTooManyMessages() {
+        // Arrange
+        StreamObserver<TaskRequest> requests = taskGrpcService.bulkCreateTasks(responseObserver);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            requests.onNext(task("Task " + i + " aus dem Stream"));
+        }
+        requests.onCompleted();
+
+        // Assert
+        assertThat(capturedError().getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED);
+        verify(responseObserver, never()).onCompleted();
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("Sollte beim ersten ungültigen Task mit INVALID_ARGUMENT abbrechen")
+    void bulkCreateTasks_ShouldRejectInvalidTask() {
+        // Arrange
+        StreamObserver<TaskRequest> requests = taskGrpcService.bulkCreateTasks(responseObserver);
+
+        // Act
+        requests.onNext(task("Gültiger Task"));
+        requests.onNext(task("x"));
+        requests.onCompleted();
+
+        // Assert
+        assertThat(capturedError().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+        verify(taskService, never()).createTasks(any());
+    }
+
+    @Test
+    @DisplayName("Sollte Tasks einer Kategorie per Keyset ab der zuletzt gesendeten ID lesen")
+    void listTasksByCategory_ShouldPageByLastId() {
+        // Arrange: eine volle Seite mit 500 Tasks, danach ein Rest
+        List<TaskResponseDTO> fullPage = LongStream.rangeClosed(1, 500)
+                .mapToObj(id -> new TaskResponseDTO(id, "Task " + id, null, false, LocalDateTime.now(), "Arbeit"))
+                .toList();
+        when(taskService.getTasksByCategoryAfter(7L, 0L, 500)).thenReturn(fullPage);
+        when(taskService.getTasksByCategoryAfter(7L, 500L, 500)).thenReturn(List.of(
+                new TaskResponseDTO(501L, "Task 501", null, false, LocalDateTime.now(), "Arbeit")));
+
+        // Act
+        taskGrpcService.listTasksByCategory(CategoryIdRequest.newBuilder().setId(7L).build(), taskObserver);
+
+        // Assert
+        verify(taskObserver, times(501)).onNext(any());
+        verify(taskObserver).onCompleted();
+        verify(taskService, times(2)).getTasksByCategoryAfter(anyLong(), anyLong(), anyInt());
+        verify(taskService, never()).getTasksByCategory(anyLong(), anyInt(), anyInt());
+    }
+
+    private Status capturedError() {
+        ArgumentCaptor<Throwable> error = ArgumentCaptor.forClass(Throwable.class);
+        verify(responseObserver).onError(error.capture());
+        return ((StatusRuntimeException) error.getValue()).getStatus();
+    }
+
+    private static TaskRequest task(String title) {
+        return TaskRequest.newBuilder().setTitle(title).build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.taskmanager.jdbc;
+
+import com.example.taskmanager.dto.admin.JdbcStatisticsDTO;
+import com.example.taskmanager.dto.admin.StatementStatsDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StatementStatistics Tests")
+public class StatementStatisticsTest {
+
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final StatementStatistics statistics = new StatementStatistics(
+            new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class),
+            Duration.ofSeconds(1), 5);
+
+    @Test
+    @DisplayName("Sollte Formen nach Gesamtzeit sortieren und Perzentile auf Bucket-Grenzen liefern")
+    void top_ShouldSortByTotalTime() {
+        // Arrange: 100 schnelle Lookups gegen einen langsamen Report
+        for (int i = 0; i < 99; i++) {
+            statistics.record("select * from tasks where id=?", MILLI, 1);
+        }
+        statistics.record("select * from tasks where id=?", 300 * MILLI, 1);
+        statistics.record("select count(*) from tasks", 50 * MILLI, 0);
+
+        // Act
+        JdbcStatisticsDTO result = statistics.top(10);
+
+        // Assert
+        assertThat(result.getTopStatements()).extracting(StatementStatsDTO::getShape)
+                .containsExactly("select * from tasks where id=?", "select count(*) from tasks");
+        StatementStatsDTO lookup = result.getTopStatements().get(0);
+        assertThat(lookup.getCount()).isEqualTo(100);
+        assertThat(lookup.getTotalMillis()).isEqualTo(399.0);
+        // 1 ms liegt im Bucket (0.8 ms, 1.6 ms], die Obergrenze ist das Perzentil
+        assertThat(lookup.getP50Millis()).isEqualTo(1.6);
+        assertThat(lookup.getP95Millis()).isEqualTo(1.6);
+        assertThat(lookup.getMaxMillis()).isEqualTo(300.0);
+    }
+
+    @Test
+    @DisplayName("Sollte Statements pro Request zählen und wiederholte SELECTs als N+1 markieren")
+    void endRequest_ShouldFlagRepeatedSelects() {
+        // Arrange
+        String lazyLoad = "select * from tasks where category_id=?";
+
+        // Act: ein Request mit 1 + 5 Statements, ein zweiter mit 5 gleichen INSERTs
+        statistics.beginRequest();
+        statistics.record("select * from categories", MILLI, 0);
+        for (int i = 0; i < 5; i++) {
+            statistics.record(lazyLoad, MILLI, 1);
+        }
+        statistics.endRequest("GET", "/api/categories");
+        statistics.beginRequest();
+        for (int i = 0; i < 5; i++) {
+            statistics.record("insert into tasks values (?)", MILLI, 1);
+        }
+        statistics.endRequest("POST", "/api/tasks/bulk");
+        JdbcStatisticsDTO result = statistics.top(10);
+
+        // Assert
+        assertThat(result.getRequests()).isEqualTo(2);
+        assertThat(result.getMaxStatementsPerRequest()).isEqualTo(6);
+        assertThat(result.getMeanStatementsPerRequest()).isEqualTo(5.5);
+        assertThat(result.getTopStatements())
+                .filteredOn(stats -> stats.getSuspectedNPlusOneRequests() > 0)
+                .extracting(StatementStatsDTO::getShape)
+                .containsExactly(lazyLoad);
+    }
+}
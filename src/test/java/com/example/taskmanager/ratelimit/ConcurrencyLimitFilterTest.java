@@ -0,0 +1,87 @@
+package com.example.taskmanager.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConcurrencyLimitFilter Tests")
+public class ConcurrencyLimitFilterTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    // Schwellwert 1 ms: jeder gemessene Request ist "zu langsam"
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(new ObjectMapper(),
+            new StaticListableBeanFactory(Map.of("registry", registry)).getBeanProvider(MeterRegistry.class),
+            true, 20, 4, 200, Duration.ofMillis(1), 0.5);
+
+    @Test
+    @DisplayName("Sollte das Limit durch einen langen Stream nicht senken")
+    void doFilter_WithLongStream_ShouldNotDecreaseLimit() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/stream");
+        request.setAsyncSupported(true);
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+                req.startAsync();
+            }
+        });
+
+        // Act: der Handler kehrt sofort zurück, der Stream endet erst deutlich nach dem Schwellwert
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        assertThat(inFlight()).isEqualTo(1);
+        Thread.sleep(20);
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+
+        // Assert
+        assertThat(inFlight()).isZero();
+        assertThat(limit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Sollte das Limit bei langsamen synchronen Requests weiterhin senken")
+    void doFilter_WithSlowRequest_ShouldDecreaseLimit() throws Exception {
+        // Arrange
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException {
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException ex) {
+                    throw new ServletException(ex);
+                }
+            }
+        });
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks"), new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertThat(inFlight()).isZero();
+        assertThat(limit()).isEqualTo(10);
+    }
+
+    private double limit() {
+        return registry.get("http.server.concurrency.limit").gauge().value();
+    }
+
+    private double inFlight() {
+        return registry.get("http.server.concurrency.in-flight").gauge().value();
+    }
+}
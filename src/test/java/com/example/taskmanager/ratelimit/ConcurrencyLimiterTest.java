@@ -0,0 +1,118 @@
+package com.example.taskmanager.ratelimit;
+
+import com.example.taskmanager.ratelimit.ConcurrencyLimiter.Permit;
+import com.example.taskmanager.ratelimit.ConcurrencyLimiter.Priority;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConcurrencyLimiter Tests")
+public class ConcurrencyLimiterTest {
+
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("Sollte niedrige Priorität zuerst abweisen")
+    void tryAcquire_ShouldShedLowPriorityFirst() {
+        // Arrange
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(10, 2, 100, 500 * MILLI, 0.9, clock::get);
+
+        // Act
+        List<Permit> low = acquireAll(limiter, Priority.LOW);
+        List<Permit> high = acquireAll(limiter, Priority.HIGH);
+
+        // Assert: LOW darf die Hälfte belegen, HIGH den Rest bis zum Limit
+        assertThat(low).hasSize(5);
+        assertThat(high).hasSize(5);
+        assertThat(limiter.tryAcquire(Priority.NORMAL)).isNull();
+        assertThat(limiter.getRejected(Priority.LOW)).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Sollte das Limit bei langsamen Requests einmal senken und bei schnellen wieder erhöhen")
+    void release_ShouldDecreaseOnSlowAndIncreaseOnFastRequests() {
+        // Arrange
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(20, 2, 100, 500 * MILLI, 0.5, clock::get);
+        clock.set(MILLI);
+        List<Permit> slow = acquireAll(limiter, Priority.HIGH);
+
+        // Act: alle 20 laufen zu lange, nur die erste Rückmeldung senkt (die anderen starteten davor)
+        clock.addAndGet(1_000 * MILLI);
+        slow.forEach(Permit::release);
+        int afterSlow = limiter.getLimit();
+
+        List<Permit> fast = acquireAll(limiter, Priority.HIGH);
+        clock.addAndGet(10 * MILLI);
+        fast.forEach(Permit::release);
+
+        // Assert
+        assertThat(afterSlow).isEqualTo(10);
+        assertThat(limiter.getLimit()).isEqualTo(10);
+        assertThat(limiter.getInFlight()).isZero();
+        for (int round = 0; round < 3; round++) {
+            List<Permit> permits = acquireAll(limiter, Priority.HIGH);
+            permits.forEach(Permit::release);
+        }
+        assertThat(limiter.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("Sollte lange Streams und Wartezeiten nicht als Latenz werten")
+    void release_WithoutSampleOrExcludedWait_ShouldKeepLimit() {
+        // Arrange
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(20, 4, 100, 500 * MILLI, 0.5, clock::get);
+        clock.set(MILLI);
+        Permit stream = limiter.tryAcquire(Priority.LOW);
+        Permit queued = limiter.tryAcquire(Priority.HIGH);
+
+        // Act: der Stream läuft eine Minute, der andere Request wartete bis auf 100 ms davon auf seinen Slot
+        clock.addAndGet(60_000 * MILLI);
+        stream.releaseWithoutSample();
+        queued.release(60_000 * MILLI - 100 * MILLI);
+
+        // Assert
+        assertThat(limiter.getLimit()).isEqualTo(20);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Sollte wartende Permits nicht als in-flight zählen und beim Fortsetzen das Limit prüfen")
+    void suspend_ShouldFreeCapacityUntilResume() {
+        // Arrange
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, 1, 100, 500 * MILLI, 0.5, clock::get);
+        Permit waiting = limiter.tryAcquire(Priority.HIGH);
+        Permit other = limiter.tryAcquire(Priority.HIGH);
+
+        // Act
+        waiting.suspend();
+        Permit third = limiter.tryAcquire(Priority.HIGH);
+        boolean resumedWhileFull = waiting.resume();
+
+        // Assert: voll, also abgewiesen und freigegeben; ein späteres release zählt nicht doppelt
+        assertThat(third).isNotNull();
+        assertThat(resumedWhileFull).isFalse();
+        waiting.release();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        other.release();
+        third.release();
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private static List<Permit> acquireAll(ConcurrencyLimiter limiter, Priority priority) {
+        List<Permit> permits = new ArrayList<>();
+        Permit permit;
+        while ((permit = limiter.tryAcquire(priority)) != null) {
+            permits.add(permit);
+        }
+        return permits;
+    }
+}
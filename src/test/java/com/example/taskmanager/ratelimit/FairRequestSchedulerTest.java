@@ -0,0 +1,70 @@
+package com.example.taskmanager.ratelimit;
+
+import com.example.taskmanager.ratelimit.FairRequestScheduler.Ticket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FairRequestScheduler Tests")
+public class FairRequestSchedulerTest {
+
+    @Test
+    @DisplayName("Sollte freie Slots reihum nach Gewicht statt in Ankunftsreihenfolge vergeben")
+    void release_ShouldServeUsersRoundRobinByWeight() {
+        // Arrange: ein Slot, "heavy" (Gewicht 2) hält ihn und hat schon 4 weitere Requests eingereiht
+        FairRequestScheduler scheduler = new FairRequestScheduler(1, 1, 10);
+        Ticket running = scheduler.enqueue("heavy", 2);
+        Map<Ticket, String> waiting = new LinkedHashMap<>();
+        for (int i = 0; i < 4; i++) {
+            waiting.put(scheduler.enqueue("heavy", 2), "heavy");
+        }
+        for (int i = 0; i < 2; i++) {
+            waiting.put(scheduler.enqueue("light", 1), "light");
+        }
+
+        // Act: immer den gerade laufenden Request beenden und schauen, wer den Slot bekommt
+        List<String> order = new ArrayList<>();
+        while (running != null) {
+            running.release();
+            running = waiting.keySet().stream().filter(Ticket::isGranted).findFirst().orElse(null);
+            if (running != null) {
+                order.add(waiting.remove(running));
+            }
+        }
+
+        // Assert
+        assertThat(running).isNull();
+        assertThat(order).containsExactly("heavy", "heavy", "light", "heavy", "heavy", "light");
+        assertThat(scheduler.getRunning()).isZero();
+        assertThat(scheduler.getQueued()).isZero();
+    }
+
+    @Test
+    @DisplayName("Sollte das User-Limit durchsetzen, volle Warteschlangen abweisen und nach Timeout aufräumen")
+    void enqueue_ShouldEnforcePerUserLimitAndQueueBound() throws InterruptedException {
+        // Arrange
+        FairRequestScheduler scheduler = new FairRequestScheduler(3, 1, 1);
+        Ticket first = scheduler.enqueue("a", 1);
+
+        // Act
+        Ticket second = scheduler.enqueue("a", 1);
+        Ticket overflow = scheduler.enqueue("a", 1);
+        Ticket other = scheduler.enqueue("b", 1);
+        boolean secondGranted = scheduler.await(second, TimeUnit.MILLISECONDS.toNanos(10));
+
+        // Assert: "a" wartet trotz freier Slots, "b" kommt sofort dran
+        assertThat(first.isGranted()).isTrue();
+        assertThat(overflow).isNull();
+        assertThat(other.isGranted()).isTrue();
+        assertThat(secondGranted).isFalse();
+        assertThat(scheduler.getQueued()).isZero();
+        assertThat(scheduler.getRunning()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.taskmanager.ratelimit;
+
+import com.example.taskmanager.model.Role;
+import com.example.taskmanager.model.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FairSchedulingFilter Tests")
+public class FairSchedulingFilterTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    // Nur ein Slot insgesamt: ein Stream, der ihn behält, würde alle weiteren Requests blockieren
+    private final FairSchedulingFilter filter = new FairSchedulingFilter(new ObjectMapper(),
+            new StaticListableBeanFactory(Map.of("registry", registry)).getBeanProvider(MeterRegistry.class),
+            new MockEnvironment(), true, 1, 1, 1, Duration.ofMillis(100));
+
+    @BeforeEach
+    void setUp() {
+        authenticate(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Sollte den Slot eines Streams freigeben, sobald der Handler zurückkehrt")
+    void doFilter_WithStream_ShouldReleaseSlotWhenHandlerReturns() throws Exception {
+        // Arrange
+        MockHttpServletRequest stream = new MockHttpServletRequest("GET", "/api/tasks/stream");
+        stream.setAsyncSupported(true);
+        MockFilterChain streamChain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+                req.startAsync();
+            }
+        });
+        MockHttpServletResponse next = new MockHttpServletResponse();
+
+        // Act: der Stream läuft noch, trotzdem bekommt der nächste Request den einzigen Slot
+        filter.doFilter(stream, new MockHttpServletResponse(), streamChain);
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks"), next, new MockFilterChain());
+
+        // Assert
+        assertThat(stream.isAsyncStarted()).isTrue();
+        assertThat(next.getStatus()).isEqualTo(200);
+        assertThat(registry.get("http.server.fair-scheduling.running").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Sollte einen zweiten User zulassen, während ein anderer mit wartenden Requests flutet")
+    void doFilter_WhenOneUserFloods_ShouldStillAdmitOtherUser() throws Exception {
+        // Arrange: Limit 6, pro User 2 Slots; ohne suspend würden 4 wartende Requests das Limit voll machen
+        ConcurrencyLimitFilter concurrencyFilter = new ConcurrencyLimitFilter(new ObjectMapper(),
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class),
+                true, 6, 1, 200, Duration.ofSeconds(10), 0.9);
+        MeterRegistry fairRegistry = new SimpleMeterRegistry();
+        FairSchedulingFilter fairFilter = new FairSchedulingFilter(new ObjectMapper(),
+                new StaticListableBeanFactory(Map.of("registry", fairRegistry)).getBeanProvider(MeterRegistry.class),
+                new MockEnvironment(), true, 10, 2, 50, Duration.ofSeconds(5));
+        CountDownLatch blocked = new CountDownLatch(1);
+        ExecutorService flood = Executors.newFixedThreadPool(8);
+        List<Future<Integer>> floodStatuses = new ArrayList<>();
+        try {
+            for (int i = 0; i < 8; i++) {
+                floodStatuses.add(flood.submit(() -> {
+                    authenticate(1L);
+                    MockHttpServletResponse response = new MockHttpServletResponse();
+                    new MockFilterChain(blockingServlet(blocked), concurrencyFilter, fairFilter)
+                            .doFilter(new MockHttpServletRequest("GET", "/api/tasks"), response);
+                    return response.getStatus();
+                }));
+            }
+            awaitGauge(fairRegistry, "http.server.fair-scheduling.running", 2);
+            awaitGauge(fairRegistry, "http.server.fair-scheduling.queued", 6);
+
+            // Act
+            authenticate(2L);
+            MockHttpServletResponse other = new MockHttpServletResponse();
+            new MockFilterChain(new HttpServlet() { }, concurrencyFilter, fairFilter)
+                    .doFilter(new MockHttpServletRequest("GET", "/api/tasks"), other);
+
+            // Assert: der zweite User kommt durch (405 vom leeren Servlet statt 503), die Flut läuft fertig
+            assertThat(other.getStatus()).isEqualTo(405);
+            blocked.countDown();
+            for (Future<Integer> status : floodStatuses) {
+                assertThat(status.get(10, TimeUnit.SECONDS)).isEqualTo(200);
+            }
+        } finally {
+            blocked.countDown();
+            flood.shutdownNow();
+        }
+    }
+
+    private static HttpServlet blockingServlet(CountDownLatch blocked) {
+        return new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException {
+                try {
+                    blocked.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    throw new ServletException(ex);
+                }
+            }
+        };
+    }
+
+    private static void awaitGauge(MeterRegistry registry, String name, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get(name).gauge().value() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(registry.get(name).gauge().value()).isEqualTo(expected);
+    }
+
+    private static void authenticate(Long userId) {
+        User user = new User();
+        user.setId(userId);
+        user.setUsername("user" + userId);
+        user.setRole(Role.USER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
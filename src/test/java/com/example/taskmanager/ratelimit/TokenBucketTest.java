@@ -0,0 +1,73 @@
+package com.example.taskmanager.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenBucket Tests")
+public class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("Sollte Burst bis capacity erlauben und danach im Takt der Refill-Rate nachfüllen")
+    void tryConsume_ShouldAllowBurstAndRefill() {
+        // Arrange: 5 Tokens pro 5 Sekunden, also eins pro Sekunde
+        TokenBucket bucket = new TokenBucket(5, 5 * SECOND, 0);
+
+        // Act & Assert
+        for (int remaining = 4; remaining >= 0; remaining--) {
+            assertThat(bucket.tryConsume(0)).isEqualTo(remaining);
+        }
+        assertThat(bucket.tryConsume(0)).isEqualTo(-SECOND);
+        assertThat(bucket.tryConsume(SECOND / 2)).isEqualTo(-SECOND / 2);
+        assertThat(bucket.tryConsume(SECOND)).isZero();
+        assertThat(bucket.isIdle(5 * SECOND)).isFalse();
+        assertThat(bucket.isIdle(6 * SECOND)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Sollte unter Konkurrenz genau capacity Tokens vergeben")
+    void tryConsume_ShouldNotOvergrant_UnderContention() throws Exception {
+        // Arrange: Zeit eingefroren, es wird also nichts nachgefüllt
+        int capacity = 1_000;
+        int threads = 8;
+        int attemptsPerThread = 10_000;
+        TokenBucket bucket = new TokenBucket(capacity, 60 * SECOND, 0);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act
+        List<Future<Integer>> granted = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            granted.add(executor.submit(() -> {
+                start.await();
+                int count = 0;
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    if (bucket.tryConsume(0) >= 0) {
+                        count++;
+                    }
+                }
+                return count;
+            }));
+        }
+        start.countDown();
+        int total = 0;
+        for (Future<Integer> future : granted) {
+            total += future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertThat(total).isEqualTo(capacity);
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.model.Category;
+import com.example.taskmanager.model.Role;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskDailyRollup;
+import com.example.taskmanager.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("TaskDailyRollupRepository Tests")
+public class TaskDailyRollupRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskDailyRollupRepository rollupRepository;
+
+    private User testUser;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setUsername("testuser");
+        testUser.setEmail("test@example.com");
+        testUser.setPassword("password");
+        testUser.setRole(Role.USER);
+        testUser = entityManager.persistAndFlush(testUser);
+        today = LocalDate.now();
+    }
+
+    @Test
+    @DisplayName("Sollte Zähler per MERGE aufaddieren")
+    void increment_ShouldAddToExistingBucket() {
+        // Act
+        rollupRepository.increment(testUser.getId(), today, TaskDailyRollup.NO_CATEGORY, 1, 0);
+        rollupRepository.increment(testUser.getId(), today, TaskDailyRollup.NO_CATEGORY, 1, 1);
+        rollupRepository.increment(testUser.getId(), today.minusDays(1), TaskDailyRollup.NO_CATEGORY, 1, 0);
+
+        // Assert
+        List<TaskDailyRollup> rollups = rollupRepository.findRange(testUser.getId(), today, today);
+        assertThat(rollups).hasSize(1);
+        assertThat(rollups.get(0).getCreatedCount()).isEqualTo(2);
+        assertThat(rollups.get(0).getCompletedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Sollte Rollups einer Kategorie aus den Tasks neu aufbauen")
+    void rebuild_ShouldRecountFromTasks() {
+        // Arrange
+        Category category = new Category();
+        category.setName("Arbeit");
+        category = entityManager.persist(category);
+        createTask(category, true);
+        createTask(category, false);
+        createTask(null, true);
+        rollupRepository.increment(testUser.getId(), today, category.getId(), 99, 99);
+        entityManager.flush();
+
+        // Act
+        int rows = rollupRepository.rebuild(null, Arrays.asList(category.getId(), null));
+        entityManager.clear();
+
+        // Assert
+        assertThat(rows).isEqualTo(2);
+        List<TaskDailyRollup> rollups = rollupRepository.findRange(testUser.getId(), today, today);
+        assertThat(rollups).extracting(rollup -> rollup.getId().getCategoryId())
+                .containsExactly(TaskDailyRollup.NO_CATEGORY, category.getId());
+        assertThat(rollups.get(1).getCreatedCount()).isEqualTo(2);
+        assertThat(rollups.get(1).getCompletedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Sollte Erledigungen am Tag von completed_at zählen, nicht am Tag der letzten Änderung")
+    void rebuild_ShouldBucketCompletionsByCompletedAt() {
+        // Arrange
+        Task task = createTask(null, true);
+        entityManager.flush();
+        LocalDate completedDay = today.minusDays(10);
+        entityManager.getEntityManager()
+                .createNativeQuery("update tasks set created_at = ?1, completed_at = ?1 where id = ?2")
+                .setParameter(1, completedDay.atStartOfDay())
+                .setParameter(2, task.getId())
+                .executeUpdate();
+
+        // Act
+        rollupRepository.rebuild(testUser.getId(), null);
+        entityManager.clear();
+
+        // Assert
+        assertThat(rollupRepository.findRange(testUser.getId(), today, today)).isEmpty();
+        List<TaskDailyRollup> rollups = rollupRepository.findRange(testUser.getId(), completedDay, completedDay);
+        assertThat(rollups).hasSize(1);
+        assertThat(rollups.get(0).getCompletedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Sollte beim Rebuild für einen User die Rollups anderer User nicht anfassen")
+    void rebuild_ForUser_ShouldNotTouchOtherUsers() {
+        // Arrange
+        User otherUser = new User();
+        otherUser.setUsername("other");
+        otherUser.setEmail("other@example.com");
+        otherUser.setPassword("password");
+        otherUser.setRole(Role.USER);
+        otherUser = entityManager.persistAndFlush(otherUser);
+        createTask(null, false);
+        rollupRepository.increment(otherUser.getId(), today, TaskDailyRollup.NO_CATEGORY, 5, 0);
+        entityManager.flush();
+
+        // Act
+        rollupRepository.rebuild(testUser.getId(), Arrays.asList((Long) null));
+        entityManager.clear();
+
+        // Assert
+        assertThat(rollupRepository.findRange(testUser.getId(), today, today))
+                .extracting(TaskDailyRollup::getCreatedCount).containsExactly(1L);
+        assertThat(rollupRepository.findRange(otherUser.getId(), today, today))
+                .extracting(TaskDailyRollup::getCreatedCount).containsExactly(5L);
+    }
+
+    private Task createTask(Category category, boolean completed) {
+        Task task = new Task();
+        task.setTitle("Task");
+        task.setCompleted(completed);
+        task.setUser(testUser);
+        task.setCategory(category);
+        return entityManager.persist(task);
+    }
+}
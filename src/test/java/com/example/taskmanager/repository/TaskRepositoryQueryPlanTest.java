@@ -0,0 +1,218 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.dto.TaskFilter;
+import com.example.taskmanager.model.Category;
+import com.example.taskmanager.model.Role;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.User;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Führt jede TaskRepository-Query aus, fängt das erzeugte SQL ab und prüft den H2-Plan (EXPLAIN):
+ * keine Query darf auf einen Table Scan von tasks zurückfallen.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.taskmanager.repository.TaskRepositoryQueryPlanTest$CapturingStatementInspector")
+@DisplayName("TaskRepository Query Plan Tests")
+public class TaskRepositoryQueryPlanTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private User testUser;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        testUser = createUser("testuser", "test@example.com");
+        User otherUser = createUser("other", "other@example.com");
+
+        category = new Category();
+        category.setName("Arbeit");
+        category = entityManager.persist(category);
+
+        for (int i = 0; i < 50; i++) {
+            createTask("Task " + i, i % 2 == 0 ? testUser : otherUser, i % 3 == 0 ? category : null, i % 4 == 0);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("findByUser sollte einen Index nutzen")
+    void findByUser_ShouldUseIndex() {
+        assertIndexUsed(() -> taskRepository.findByUser(testUser));
+    }
+
+    @Test
+    @DisplayName("findByUserAndCompleted sollte einen Index nutzen")
+    void findByUserAndCompleted_ShouldUseIndex() {
+        assertIndexUsed(() -> taskRepository.findByUserAndCompleted(testUser, true));
+    }
+
+    @Test
+    @DisplayName("findByUserAndTitleContainingIgnoreCase sollte einen Index nutzen")
+    void findByUserAndTitleContaining_ShouldUseIndex() {
+        assertIndexUsed(() -> taskRepository.findByUserAndTitleContainingIgnoreCase(testUser, "task"));
+    }
+
+    @Test
+    @DisplayName("findByIdAndUser sollte einen Index nutzen")
+    void findByIdAndUser_ShouldUseIndex() {
+        assertIndexUsed(() -> taskRepository.findByIdAndUser(1L, testUser));
+    }
+
+    @Test
+    @DisplayName("findCompletedTasksByUser sollte einen Index nutzen")
+    void findCompletedTasksByUser_ShouldUseIndex() {
+        assertIndexUsed(() -> taskRepository.findCompletedTasksByUser(testUser));
+    }
+
+    @Test
+    @DisplayName("Keyset-Pagination sollte einen Index nutzen")
+    void findByUserAndIdGreaterThan_ShouldUseIndex() {
+        assertIndexUsed(() -> taskRepository.findByUserAndIdGreaterThanOrderByIdAsc(testUser, 0L, Limit.of(10)));
+    }
+
+    @Test
+    @DisplayName("Tasks einer Kategorie sollten über (category_id, user_id) gelesen werden")
+    void findResponsesByCategoryIdAndUser_ShouldUseIndex() {
+        assertIndexUsed(() -> taskRepository.findResponsesByCategoryIdAndUser(
+                1L, testUser, PageRequest.of(0, 10, Sort.by("id"))));
+    }
+
+    @Test
+    @DisplayName("Keyset über die Tasks einer Kategorie sollte einen Index nutzen")
+    void findResponsesByCategoryIdAndUserAfter_ShouldUseIndex() {
+        assertIndexUsed(() -> taskRepository.findResponsesByCategoryIdAndUserAfter(1L, testUser, 0L, Limit.of(10)));
+    }
+
+    @Test
+    @DisplayName("countByUser und countByUserAndCompleted sollten einen Index nutzen")
+    void counts_ShouldUseIndex() {
+        assertIndexUsed(() -> taskRepository.countByUser(testUser));
+        assertIndexUsed(() -> taskRepository.countByUserAndCompleted(testUser, false));
+    }
+
+    @Test
+    @DisplayName("Jede Filter-Kombination von GET /api/tasks sollte einen Index nutzen")
+    void specificationFilters_ShouldUseIndex() {
+        TaskFilter byCategory = new TaskFilter();
+        byCategory.setCategoryId(category.getId());
+
+        TaskFilter byCreated = new TaskFilter();
+        byCreated.setCreatedAfter(LocalDateTime.now().minusDays(1));
+
+        TaskFilter byUpdated = new TaskFilter();
+        byUpdated.setUpdatedBefore(LocalDateTime.now().plusDays(1));
+
+        TaskFilter combined = new TaskFilter();
+        combined.setCompleted(false);
+        combined.setCategoryId(category.getId());
+        combined.setKeyword("task");
+
+        for (TaskFilter filter : List.of(TaskFilter.completed(true), byCategory, byCreated, byUpdated, combined)) {
+            assertIndexUsed(() -> taskRepository.findAll(
+                    TaskSpecifications.matching(testUser, filter), Sort.by(Sort.Direction.DESC, "createdAt")));
+            assertIndexUsed(() -> taskRepository.findFields(
+                    TaskSpecifications.matching(testUser, filter), Sort.unsorted(), List.of("id", "title", "categoryName")));
+        }
+    }
+
+    private void assertIndexUsed(Runnable repositoryCall) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        repositoryCall.run();
+
+        List<String> statements = new ArrayList<>(CapturingStatementInspector.STATEMENTS);
+        assertThat(statements).isNotEmpty();
+
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertThat(plan)
+                    .as("Query-Plan für %s", sql)
+                    .doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    private String explain(String sql) {
+        return entityManager.getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                ParameterMetaData metaData = statement.getParameterMetaData();
+                for (int i = 1; i <= metaData.getParameterCount(); i++) {
+                    statement.setObject(i, sampleValue(metaData.getParameterType(i)));
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+
+    // Die Werte beeinflussen den Plan nicht, sie müssen nur zum Spaltentyp passen
+    private Object sampleValue(int sqlType) {
+        return switch (sqlType) {
+            case Types.BOOLEAN -> true;
+            case Types.VARCHAR, Types.CHAR -> "%TASK%";
+            case Types.TIMESTAMP -> Timestamp.valueOf(LocalDateTime.now());
+            case Types.INTEGER -> 10;
+            default -> 1L;
+        };
+    }
+
+    private User createUser(String username, String email) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(Role.USER);
+        return entityManager.persist(user);
+    }
+
+    private void createTask(String title, User user, Category category, boolean completed) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("Description");
+        task.setCompleted(completed);
+        task.setUser(user);
+        task.setCategory(category);
+        entityManager.persist(task);
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.trim().toLowerCase().startsWith("select")) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+    }
+}
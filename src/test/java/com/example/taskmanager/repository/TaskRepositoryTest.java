@@ -1,5 +1,7 @@
 package com.example.taskmanager.repository;
 
+import com.example.taskmanager.dto.TaskResponseDTO;
+import com.example.taskmanager.model.Category;
 import com.example.taskmanager.model.Role;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.User;
@@ -9,7 +11,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -156,6 +163,75 @@ public class TaskRepositoryTest {
         assertThat(count).isEqualTo(3);
     }
 
+    @Test
+    @DisplayName("Sollte Tasks chunkweise in eine andere Kategorie verschieben")
+    void updateCategoryByIds_ShouldMoveTasksInChunks() {
+        // Arrange
+        Category source = createCategory("Source");
+        Category target = createCategory("Target");
+        for (int i = 0; i < 5; i++) {
+            createTask("Task " + i, testUser).setCategory(source);
+        }
+        entityManager.flush();
+
+        // Act
+        List<Long> firstChunk = taskRepository.findIdsByCategoryId(source.getId(), Limit.of(3));
+        int moved = taskRepository.updateCategoryByIds(firstChunk, target, LocalDateTime.now());
+
+        // Assert
+        assertThat(firstChunk).hasSize(3);
+        assertThat(moved).isEqualTo(3);
+        assertThat(taskRepository.findIdsByCategoryId(source.getId(), Limit.of(3))).hasSize(2);
+        assertThat(taskRepository.findIdsByCategoryId(target.getId(), Limit.of(10))).containsExactlyInAnyOrderElementsOf(firstChunk);
+    }
+
+    @Test
+    @DisplayName("Sollte Tasks einer Kategorie nur für den User seitenweise mit hasNext liefern")
+    void findResponsesByCategoryIdAndUser_ShouldScopeToUserAndReportHasNext() {
+        // Arrange
+        Category work = createCategory("Arbeit");
+        for (int i = 0; i < 3; i++) {
+            createTask("Task " + i, testUser).setCategory(work);
+        }
+        User otherUser = createUser("other", "other@example.com");
+        createTask("Fremder Task", otherUser).setCategory(work);
+        entityManager.flush();
+
+        // Act
+        Slice<TaskResponseDTO> first = taskRepository.findResponsesByCategoryIdAndUser(
+                work.getId(), testUser, PageRequest.of(0, 2, Sort.by("id")));
+        Slice<TaskResponseDTO> second = taskRepository.findResponsesByCategoryIdAndUser(
+                work.getId(), testUser, PageRequest.of(1, 2, Sort.by("id")));
+
+        // Assert
+        assertThat(first.getContent()).extracting(TaskResponseDTO::getTitle).containsExactly("Task 0", "Task 1");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(TaskResponseDTO::getTitle).containsExactly("Task 2");
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.getContent()).extracting(TaskResponseDTO::getCategoryName).containsOnly("Arbeit");
+    }
+
+    @Test
+    @DisplayName("Sollte Tasks einer Kategorie per Keyset nach der letzten ID liefern")
+    void findResponsesByCategoryIdAndUserAfter_ShouldContinueAfterLastId() {
+        // Arrange
+        Category work = createCategory("Arbeit");
+        Task first = createTask("Task 0", testUser);
+        first.setCategory(work);
+        createTask("Task 1", testUser).setCategory(work);
+        createTask("Ohne Kategorie", testUser);
+        User otherUser = createUser("other", "other@example.com");
+        createTask("Fremder Task", otherUser).setCategory(work);
+        entityManager.flush();
+
+        // Act
+        List<TaskResponseDTO> page = taskRepository.findResponsesByCategoryIdAndUserAfter(
+                work.getId(), testUser, first.getId(), Limit.of(10));
+
+        // Assert
+        assertThat(page).extracting(TaskResponseDTO::getTitle).containsExactly("Task 1");
+    }
+
     // Helper Methods
     private Task createTask(String title, User user){
         Task task = new Task();
@@ -166,6 +242,12 @@ public class TaskRepositoryTest {
         return entityManager.persist(task);
     }
 
+    private Category createCategory(String name) {
+        Category category = new Category();
+        category.setName(name);
+        return entityManager.persist(category);
+    }
+
     private User createUser(String username, String email) {
         User user = new User();
         user.setUsername(username);
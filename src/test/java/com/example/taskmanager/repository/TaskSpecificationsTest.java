@@ -0,0 +1,172 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.dto.TaskFilter;
+import com.example.taskmanager.model.Category;
+import com.example.taskmanager.model.Role;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("TaskSpecifications Tests")
+public class TaskSpecificationsTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private User testUser;
+    private User otherUser;
+    private Category work;
+
+    @BeforeEach
+    void setUp() {
+        testUser = createUser("testuser", "test@example.com");
+        otherUser = createUser("other", "other@example.com");
+        work = new Category();
+        work.setName("Arbeit");
+        work = entityManager.persist(work);
+    }
+
+    @Test
+    @DisplayName("Sollte ohne Kriterien nur die Tasks des Users liefern")
+    void matching_WithEmptyFilter_ShouldOnlyReturnUserTasks() {
+        // Arrange
+        createTask("Eigener Task", testUser, false, null);
+        createTask("Fremder Task", otherUser, false, null);
+        entityManager.flush();
+
+        // Act
+        List<Task> tasks = taskRepository.findAll(TaskSpecifications.matching(testUser, new TaskFilter()));
+
+        // Assert
+        assertThat(tasks).extracting(Task::getTitle).containsExactly("Eigener Task");
+    }
+
+    @Test
+    @DisplayName("Sollte completed, categoryId und keyword per AND verknüpfen")
+    void matching_WithSeveralCriteria_ShouldCombineWithAnd() {
+        // Arrange
+        createTask("Bericht schreiben", testUser, true, work);
+        createTask("Bericht lesen", testUser, false, work);
+        createTask("Bericht drucken", testUser, true, null);
+        createTask("Einkauf", testUser, true, work);
+        createTask("Bericht schreiben", otherUser, true, work);
+        entityManager.flush();
+
+        TaskFilter filter = TaskFilter.completed(true);
+        filter.setCategoryId(work.getId());
+        filter.setKeyword("BERICHT");
+
+        // Act
+        List<Task> tasks = taskRepository.findAll(TaskSpecifications.matching(testUser, filter));
+
+        // Assert
+        assertThat(tasks).hasSize(1);
+        assertThat(tasks.get(0).getTitle()).isEqualTo("Bericht schreiben");
+        assertThat(tasks.get(0).getUser().getId()).isEqualTo(testUser.getId());
+    }
+
+    @Test
+    @DisplayName("Sollte % und _ im Keyword als normale Zeichen behandeln")
+    void matching_WithLikeWildcardsInKeyword_ShouldMatchLiterally() {
+        // Arrange
+        createTask("100% fertig", testUser, false, null);
+        createTask("1000 Punkte", testUser, false, null);
+        createTask("a_b", testUser, false, null);
+        createTask("axb", testUser, false, null);
+        entityManager.flush();
+
+        // Act
+        List<Task> percent = taskRepository.findAll(TaskSpecifications.matching(testUser, TaskFilter.keyword("100%")));
+        List<Task> underscore = taskRepository.findAll(TaskSpecifications.matching(testUser, TaskFilter.keyword("a_b")));
+
+        // Assert
+        assertThat(percent).extracting(Task::getTitle).containsExactly("100% fertig");
+        assertThat(underscore).extracting(Task::getTitle).containsExactly("a_b");
+    }
+
+    @Test
+    @DisplayName("Sollte Zeiträume mit inklusiver Unter- und exklusiver Obergrenze filtern")
+    void matching_WithCreatedRange_ShouldUseHalfOpenInterval() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2024, 3, 1, 0, 0);
+        Task atStart = createTask("Am Anfang", testUser, false, null);
+        Task inside = createTask("Mittendrin", testUser, false, null);
+        Task atEnd = createTask("Am Ende", testUser, false, null);
+        entityManager.flush();
+        setCreatedAt(atStart, start);
+        setCreatedAt(inside, start.plusDays(3));
+        setCreatedAt(atEnd, start.plusDays(7));
+
+        TaskFilter filter = new TaskFilter();
+        filter.setCreatedAfter(start);
+        filter.setCreatedBefore(start.plusDays(7));
+
+        // Act
+        List<Task> tasks = taskRepository.findAll(TaskSpecifications.matching(testUser, filter));
+
+        // Assert
+        assertThat(tasks).extracting(Task::getTitle).containsExactlyInAnyOrder("Am Anfang", "Mittendrin");
+    }
+
+    @Test
+    @DisplayName("Sollte zusammen mit einer Sortierung in der gewünschten Reihenfolge liefern")
+    void matching_WithSort_ShouldReturnSortedTasks() {
+        // Arrange
+        createTask("B", testUser, false, null);
+        createTask("C", testUser, false, null);
+        createTask("A", testUser, false, null);
+        entityManager.flush();
+
+        // Act
+        List<Task> tasks = taskRepository.findAll(TaskSpecifications.matching(testUser, new TaskFilter()),
+                Sort.by(Sort.Direction.DESC, "title"));
+
+        // Assert
+        assertThat(tasks).extracting(Task::getTitle).containsExactly("C", "B", "A");
+    }
+
+    // Helper Methods
+    private Task createTask(String title, User user, boolean completed, Category category) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("Description");
+        task.setCompleted(completed);
+        task.setUser(user);
+        task.setCategory(category);
+        return entityManager.persist(task);
+    }
+
+    // created_at ist nicht updatable, also direkt per SQL setzen
+    private void setCreatedAt(Task task, LocalDateTime createdAt) {
+        entityManager.getEntityManager()
+                .createNativeQuery("update tasks set created_at = ?1 where id = ?2")
+                .setParameter(1, createdAt)
+                .setParameter(2, task.getId())
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    private User createUser(String username, String email) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(Role.USER);
+        return entityManager.persistAndFlush(user);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.admin.StaleTasksDTO;
+import com.example.taskmanager.dto.admin.TaskOverviewDTO;
+import com.example.taskmanager.model.Role;
+import com.example.taskmanager.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Import(AdminAnalyticsService.class)
+@DisplayName("AdminAnalyticsService Tests")
+public class AdminAnalyticsServiceTest {
+
+    private static final LocalDateTime OLD = LocalDateTime.now().minusDays(60);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AdminAnalyticsService adminAnalyticsService;
+
+    private User alice;
+    private User bob;
+    private User carol;
+
+    @BeforeEach
+    void setUp() {
+        alice = createUser("alice");
+        bob = createUser("bob");
+        carol = createUser("carol");
+    }
+
+    @Test
+    @DisplayName("Sollte liegengebliebene Tasks über mehrere Scan-Teilbereiche pro User korrekt zählen")
+    void getStaleTasks_WithManyRows_ShouldMergePerUserCountsOfAllRanges() {
+        // Arrange: genug Zeilen für mehrere Fork/Join-Teilbereiche, die User liegen über alle Bereiche verteilt
+        insertTasks(alice, 70_000, false, OLD);
+        insertTasks(bob, 30_000, false, OLD);
+        insertTasks(bob, 10_000, false, LocalDateTime.now());
+        insertTasks(carol, 20_000, true, OLD);
+        insertTasks(alice, 5_000, false, OLD);
+
+        // Act
+        StaleTasksDTO result = adminAnalyticsService.getStaleTasks(30, 10);
+
+        // Assert
+        assertThat(result.getStaleOpenTasks()).isEqualTo(105_000);
+        assertThat(result.getAffectedUsers()).isEqualTo(2);
+        assertThat(result.getTopUsers())
+                .extracting(StaleTasksDTO.UserStaleTasks::getUserId, StaleTasksDTO.UserStaleTasks::getStaleOpenTasks)
+                .containsExactly(
+                        tuple(alice.getId(), 75_000L),
+                        tuple(bob.getId(), 30_000L));
+    }
+
+    @Test
+    @DisplayName("Sollte während eines laufenden Neuaufbaus ohne Warten den bisherigen Snapshot liefern")
+    void getOverview_DuringRefresh_ShouldNotWaitForRefreshLock() throws Exception {
+        // Arrange
+        insertTasks(alice, 3, true, OLD);
+        adminAnalyticsService.refresh();
+        insertTasks(bob, 2, false, OLD);
+        ReentrantLock refreshLock = (ReentrantLock) ReflectionTestUtils.getField(adminAnalyticsService, "refreshLock");
+
+        // Act: der Test-Thread hält das Lock wie ein gerade laufender Neuaufbau
+        refreshLock.lock();
+        TaskOverviewDTO overview;
+        try {
+            overview = CompletableFuture.supplyAsync(adminAnalyticsService::getOverview).get(5, TimeUnit.SECONDS);
+        } finally {
+            refreshLock.unlock();
+        }
+
+        // Assert
+        assertThat(overview.getTasks()).isEqualTo(3);
+        assertThat(overview.getCompleted()).isEqualTo(3);
+        assertThat(adminAnalyticsService.refresh().size()).isEqualTo(5);
+    }
+
+    // Helper Methods
+
+    // Per INSERT ... SELECT, über JPA wären hunderttausend Tasks zu langsam
+    private void insertTasks(User user, int count, boolean completed, LocalDateTime updatedAt) {
+        entityManager.getEntityManager()
+                .createNativeQuery("""
+                        insert into tasks (title, completed, created_at, updated_at, user_id)
+                        select 'Task', ?1, ?2, ?2, ?3 from system_range(1, ?4)
+                        """)
+                .setParameter(1, completed)
+                .setParameter(2, updatedAt)
+                .setParameter(3, user.getId())
+                .setParameter(4, count)
+                .executeUpdate();
+    }
+
+    private User createUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("password");
+        user.setRole(Role.USER);
+        return entityManager.persistAndFlush(user);
+    }
+}
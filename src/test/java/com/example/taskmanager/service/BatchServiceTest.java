@@ -0,0 +1,275 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.deadline.RequestDeadline;
+import com.example.taskmanager.dto.TaskFilter;
+import com.example.taskmanager.dto.TaskRequestDTO;
+import com.example.taskmanager.dto.TaskResponseDTO;
+import com.example.taskmanager.dto.TaskStatsResponseDTO;
+import com.example.taskmanager.dto.batch.BatchOperationDTO;
+import com.example.taskmanager.dto.batch.BatchRequestDTO;
+import com.example.taskmanager.dto.batch.BatchResponseDTO;
+import com.example.taskmanager.dto.batch.BatchResultDTO;
+import com.example.taskmanager.exception.TaskNotFoundException;
+import com.example.taskmanager.model.User;
+import com.example.taskmanager.ratelimit.RateLimits;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchService Tests")
+public class BatchServiceTest {
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private TaskStatsService taskStatsService;
+
+    @Mock
+    private TaskRollupService taskRollupService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private BatchService batchService;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        batchService = batchService(false);
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setUsername("testuser");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(testUser, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Sollte Ergebnisse in Request-Reihenfolge mit Status pro Operation liefern")
+    void execute_ShouldReturnResultsInOrder() {
+        // Arrange
+        TaskResponseDTO created = new TaskResponseDTO();
+        created.setId(1L);
+        when(taskService.createTask(any(TaskRequestDTO.class))).thenReturn(created);
+        when(taskService.getTaskById(99L)).thenThrow(new TaskNotFoundException(99L));
+        when(categoryService.getAllCategories()).thenReturn(List.of());
+
+        BatchRequestDTO request = new BatchRequestDTO(false, List.of(
+                operation("POST", "/api/tasks", "{\"title\":\"Neuer Task\"}"),
+                operation("GET", "/api/tasks/99", null),
+                operation("GET", "/api/categories", null),
+                operation("POST", "/api/tasks", "{\"title\":\"x\"}"),
+                operation("PATCH", "/api/tasks/1", null)));
+
+        // Act
+        BatchResponseDTO response = batchService.execute(request);
+
+        // Assert
+        assertThat(response.isRolledBack()).isFalse();
+        assertThat(response.getResults()).extracting(BatchResultDTO::getStatus).containsExactly(201, 404, 200, 400, 404);
+        assertThat(response.getResults().get(0).getBody()).isEqualTo(created);
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("Sollte bei atomic den ganzen Batch zurückrollen, wenn eine Operation fehlschlägt")
+    void execute_ShouldRollBack_WhenAtomicOperationFails() {
+        // Arrange
+        SimpleTransactionStatus status = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        when(taskService.createTask(any(TaskRequestDTO.class))).thenReturn(new TaskResponseDTO());
+        when(taskService.updateTask(any(), any(TaskRequestDTO.class))).thenThrow(new TaskNotFoundException(999L));
+
+        BatchRequestDTO request = new BatchRequestDTO(true, List.of(
+                operation("POST", "/api/tasks", "{\"title\":\"Neuer Task\"}"),
+                operation("PUT", "/api/tasks/999", "{\"title\":\"Geändert\"}"),
+                operation("GET", "/api/tasks", null)));
+
+        // Act
+        BatchResponseDTO response = batchService.execute(request);
+
+        // Assert
+        assertThat(response.isRolledBack()).isTrue();
+        assertThat(response.getResults()).extracting(BatchResultDTO::getStatus).containsExactly(424, 404, 424);
+        assertThat(status.isRollbackOnly()).isTrue();
+        verify(transactionManager).commit(status);
+        verify(taskService, never()).getAllTasks();
+    }
+
+    @Test
+    @DisplayName("Sollte jede Operation einzeln gegen das Rate-Limit ihres Pfads zählen")
+    void execute_ShouldChargeRateLimitPerOperation() {
+        // Arrange: Such-Budget von 2, wie zwei einzelne Requests
+        batchService = batchService(true);
+        when(taskService.searchTasks("bericht")).thenReturn(List.of());
+        when(categoryService.getAllCategories()).thenReturn(List.of());
+
+        BatchRequestDTO request = new BatchRequestDTO(false, List.of(
+                operation("GET", "/api/tasks/search?keyword=bericht", null),
+                operation("GET", "/api/tasks?keyword=bericht", null),
+                operation("GET", "/api/tasks/search?keyword=bericht", null),
+                operation("GET", "/api/categories", null)));
+
+        // Act
+        BatchResponseDTO response = batchService.execute(request);
+
+        // Assert: die dritte Suche ist über dem Budget, das default-Budget ist davon unabhängig
+        assertThat(response.getResults()).extracting(BatchResultDTO::getStatus).containsExactly(200, 200, 429, 200);
+        verify(taskService, times(1)).searchTasks("bericht");
+    }
+
+    @Test
+    @DisplayName("Sollte fields unterstützen und unbekannte Parameter mit 400 ablehnen")
+    void execute_ShouldSupportFieldsAndRejectUnknownParams() {
+        // Arrange
+        when(taskService.getTaskFields(eq("id,title"), any(TaskFilter.class))).thenReturn(List.of(Map.of("id", 1L)));
+
+        BatchRequestDTO request = new BatchRequestDTO(false, List.of(
+                operation("GET", "/api/tasks?fields=id,title&completed=true", null),
+                operation("GET", "/api/tasks/completed?feilds=id", null),
+                operation("DELETE", "/api/tasks/bulk?completed=true&page=2", null)));
+
+        // Act
+        BatchResponseDTO response = batchService.execute(request);
+
+        // Assert
+        assertThat(response.getResults()).extracting(BatchResultDTO::getStatus).containsExactly(200, 400, 400);
+        assertThat(response.getResults().get(0).getBody()).isEqualTo(List.of(Map.of("id", 1L)));
+        verify(taskService, never()).getCompletedTasks();
+        verify(taskService, never()).deleteTasks(any());
+    }
+
+    @Test
+    @DisplayName("Sollte /stats und /analytics wie die Einzel-Endpoints bedienen")
+    void execute_ShouldServeStatsAndAnalytics() {
+        // Arrange
+        when(taskStatsService.getStats(1L)).thenReturn(new TaskStatsResponseDTO());
+        when(taskRollupService.getRollups(1L, LocalDate.of(2024, 3, 1), null, "week", true)).thenReturn(List.of());
+
+        BatchRequestDTO request = new BatchRequestDTO(false, List.of(
+                operation("GET", "/api/tasks/stats", null),
+                operation("GET", "/api/tasks/analytics?from=2024-03-01&granularity=week&byCategory=true", null)));
+
+        // Act
+        BatchResponseDTO response = batchService.execute(request);
+
+        // Assert
+        assertThat(response.getResults()).extracting(BatchResultDTO::getStatus).containsExactly(200, 200);
+        verify(taskStatsService).getStats(1L);
+        verify(taskRollupService).getRollups(1L, LocalDate.of(2024, 3, 1), null, "week", true);
+    }
+
+    @Test
+    @DisplayName("Sollte jede Operation mit dem Zeitbudget ihres Endpoints ausführen")
+    void execute_ShouldRunOperationsWithEndpointBudget() {
+        // Arrange
+        AtomicLong remainingInSearch = new AtomicLong(-1);
+        AtomicLong remainingInCategories = new AtomicLong(-1);
+        when(taskService.searchTasks("bericht")).thenAnswer(invocation -> {
+            remainingInSearch.set(RequestDeadline.remainingMillis());
+            return List.of();
+        });
+        when(categoryService.getAllCategories()).thenAnswer(invocation -> {
+            remainingInCategories.set(RequestDeadline.remainingMillis());
+            return List.of();
+        });
+
+        BatchRequestDTO request = new BatchRequestDTO(false, List.of(
+                operation("GET", "/api/tasks/search?keyword=bericht", null),
+                operation("GET", "/api/categories", null)));
+
+        // Act
+        batchService.execute(request);
+
+        // Assert: Suche 3 s wie @RequestTimeout, sonst app.deadline.default-timeout; danach keine Deadline mehr
+        assertThat(remainingInSearch.get()).isBetween(1L, 3_000L);
+        assertThat(remainingInCategories.get()).isBetween(3_001L, 10_000L);
+        assertThat(RequestDeadline.isSet()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Sollte von einer GET-Welle höchstens max-parallel Operationen gleichzeitig ausführen")
+    void execute_ShouldCapParallelOperationsPerWave() {
+        // Arrange: Pool mit mehr Threads als erlaubt, jede Operation hält kurz ihren Thread
+        ExecutorService pool = Executors.newFixedThreadPool(10);
+        try {
+            batchService = new BatchService(taskService, categoryService, taskStatsService, taskRollupService, objectMapper,
+                    Validation.buildDefaultValidatorFactory().getValidator(), transactionManager, pool,
+                    new RateLimits(false, 100, Duration.ofMinutes(1), 2, Duration.ofMinutes(1), 10, Duration.ofMinutes(1)));
+            ReflectionTestUtils.setField(batchService, "maxParallel", 3);
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            when(categoryService.getAllCategories()).thenAnswer(invocation -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                running.decrementAndGet();
+                return List.of();
+            });
+            BatchRequestDTO request = new BatchRequestDTO(false,
+                    Collections.nCopies(10, operation("GET", "/api/categories", null)));
+
+            // Act
+            BatchResponseDTO response = batchService.execute(request);
+
+            // Assert
+            assertThat(response.getResults()).extracting(BatchResultDTO::getStatus).containsOnly(200).hasSize(10);
+            assertThat(maxRunning.get()).isBetween(2, 3);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private BatchService batchService(boolean rateLimitEnabled) {
+        RateLimits rateLimits = new RateLimits(rateLimitEnabled, 100, Duration.ofMinutes(1), 2, Duration.ofMinutes(1),
+                10, Duration.ofMinutes(1));
+        return new BatchService(taskService, categoryService, taskStatsService, taskRollupService, objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(), transactionManager, Runnable::run, rateLimits);
+    }
+
+    private BatchOperationDTO operation(String method, String path, String body) {
+        try {
+            return new BatchOperationDTO(method, path, body != null ? objectMapper.readTree(body) : null);
+        } catch (Exception ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+}
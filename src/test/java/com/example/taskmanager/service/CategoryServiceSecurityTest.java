@@ -0,0 +1,69 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.exception.CategoryNotFoundException;
+import com.example.taskmanager.mapper.CategoryMapper;
+import com.example.taskmanager.repository.CategoryRepository;
+import com.example.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Merge und Detach ändern Tasks aller User und sind deshalb per @PreAuthorize auf Admins beschränkt.
+ * Geprüft am Service, weil auch der Batch-Endpunkt sie aufruft.
+ */
+@SpringJUnitConfig(CategoryServiceSecurityTest.MethodSecurityConfig.class)
+@DisplayName("CategoryService Berechtigungen")
+public class CategoryServiceSecurityTest {
+
+    @Configuration
+    @EnableMethodSecurity
+    @Import(CategoryService.class)
+    static class MethodSecurityConfig {
+    }
+
+    @MockitoBean
+    private CategoryRepository categoryRepository;
+
+    @MockitoBean
+    private TaskRepository taskRepository;
+
+    @MockitoBean
+    private CategoryMapper categoryMapper;
+
+    @MockitoBean
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("Sollte Merge und Detach für normale User ablehnen")
+    void mergeAndDetach_AsUser_ShouldBeDenied() {
+        // Act & Assert
+        assertThatThrownBy(() -> categoryService.mergeCategory(1L, 2L)).isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> categoryService.detachTasks(1L)).isInstanceOf(AccessDeniedException.class);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("Sollte Merge und Detach für Admins ausführen")
+    void mergeAndDetach_AsAdmin_ShouldBeAllowed() {
+        // Act & Assert: die Kategorie gibt es im Mock nicht, die Methode läuft also bis zur Prüfung
+        assertThatThrownBy(() -> categoryService.mergeCategory(1L, 2L)).isInstanceOf(CategoryNotFoundException.class);
+        assertThatThrownBy(() -> categoryService.detachTasks(1L)).isInstanceOf(CategoryNotFoundException.class);
+    }
+}
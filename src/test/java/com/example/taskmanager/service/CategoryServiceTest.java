@@ -0,0 +1,166 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.BulkOperationResponseDTO;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.exception.InvalidQueryParameterException;
+import com.example.taskmanager.mapper.CategoryMapper;
+import com.example.taskmanager.model.Category;
+import com.example.taskmanager.repository.CategoryRepository;
+import com.example.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategoryService Tests")
+public class CategoryServiceTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private CategoryMapper categoryMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CategoryService categoryService;
+
+    @BeforeEach
+    void setUp() {
+        categoryService = new CategoryService(categoryRepository, taskRepository, categoryMapper, eventPublisher,
+                transactionManager);
+        ReflectionTestUtils.setField(categoryService, "bulkChunkSize", 2);
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("Sollte Tasks chunkweise mit je einem Commit löschen und die Kategorie im letzten Chunk entfernen")
+    void deleteCategory_ShouldCommitEachChunk() {
+        // Arrange
+        when(categoryRepository.existsById(7L)).thenReturn(true);
+        when(taskRepository.findIdsByCategoryId(7L, Limit.of(2)))
+                .thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+        when(taskRepository.findUserIdsByIds(anyList())).thenReturn(List.of(42L));
+
+        // Act
+        categoryService.deleteCategory(7L);
+
+        // Assert
+        InOrder inOrder = inOrder(taskRepository, categoryRepository, eventPublisher, transactionManager);
+        TaskChangedEvent event = TaskChangedEvent.bulkCategories(42L, List.of(7L));
+        inOrder.verify(taskRepository).deleteByIds(List.of(1L, 2L));
+        inOrder.verify(eventPublisher).publishEvent(event);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(taskRepository).deleteByIds(List.of(3L, 4L));
+        inOrder.verify(eventPublisher).publishEvent(event);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(taskRepository).deleteByIds(List.of(5L));
+        inOrder.verify(eventPublisher).publishEvent(event);
+        inOrder.verify(categoryRepository).deleteCategoryById(7L);
+        inOrder.verify(transactionManager).commit(any());
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Sollte Tasks in die Zielkategorie verschieben und die Anzahl zurückgeben")
+    void mergeCategory_ShouldMoveTasksAndDeleteSource() {
+        // Arrange
+        Category target = new Category();
+        target.setId(8L);
+        when(categoryRepository.existsById(7L)).thenReturn(true);
+        when(categoryRepository.findById(8L)).thenReturn(Optional.of(target));
+        when(taskRepository.findIdsByCategoryId(7L, Limit.of(2))).thenReturn(List.of(1L, 2L), List.of());
+        when(taskRepository.findUserIdsByIds(List.of(1L, 2L))).thenReturn(List.of(42L));
+        when(taskRepository.updateCategoryByIds(eq(List.of(1L, 2L)), eq(target), any(LocalDateTime.class))).thenReturn(2);
+
+        // Act
+        BulkOperationResponseDTO result = categoryService.mergeCategory(7L, 8L);
+
+        // Assert
+        assertThat(result.getAffectedTasks()).isEqualTo(2);
+        verify(taskRepository, times(1)).updateCategoryByIds(anyList(), any(), any());
+        verify(categoryRepository).deleteCategoryById(7L);
+        verify(eventPublisher).publishEvent(TaskChangedEvent.bulkCategories(42L, List.of(7L, 8L)));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Sollte eine Kategorie nicht mit sich selbst zusammenführen")
+    void mergeCategory_WithSameCategory_ShouldThrowException() {
+        // Act & Assert
+        assertThatThrownBy(() -> categoryService.mergeCategory(7L, 7L))
+                .isInstanceOf(InvalidQueryParameterException.class);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Sollte Tasks von der Kategorie lösen und nur die betroffenen User neu zählen lassen")
+    void detachTasks_ShouldSetCategoryToNullAndPublishEventPerUser() {
+        // Arrange
+        when(categoryRepository.existsById(7L)).thenReturn(true);
+        when(taskRepository.findIdsByCategoryId(7L, Limit.of(2))).thenReturn(List.of(1L));
+        when(taskRepository.findUserIdsByIds(List.of(1L))).thenReturn(List.of(42L, 43L));
+        when(taskRepository.updateCategoryByIds(eq(List.of(1L)), isNull(), any(LocalDateTime.class))).thenReturn(1);
+
+        // Act
+        BulkOperationResponseDTO result = categoryService.detachTasks(7L);
+
+        // Assert
+        assertThat(result.getAffectedTasks()).isEqualTo(1);
+        verify(categoryRepository, never()).deleteCategoryById(any());
+        verify(eventPublisher).publishEvent(TaskChangedEvent.bulkCategories(42L, Arrays.asList(7L, null)));
+        verify(eventPublisher).publishEvent(TaskChangedEvent.bulkCategories(43L, Arrays.asList(7L, null)));
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Sollte bei Abbruch die Events der schon committeten Chunks behalten")
+    void detachTasks_WhenChunkFails_ShouldKeepEventsOfCommittedChunks() {
+        // Arrange
+        when(categoryRepository.existsById(7L)).thenReturn(true);
+        when(taskRepository.findIdsByCategoryId(7L, Limit.of(2))).thenReturn(List.of(1L, 2L), List.of(3L, 4L));
+        when(taskRepository.findUserIdsByIds(List.of(1L, 2L))).thenReturn(List.of(42L));
+        when(taskRepository.findUserIdsByIds(List.of(3L, 4L))).thenReturn(List.of(43L));
+        when(taskRepository.updateCategoryByIds(anyList(), isNull(), any(LocalDateTime.class)))
+                .thenReturn(2)
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> categoryService.detachTasks(7L)).isInstanceOf(QueryTimeoutException.class);
+        verify(transactionManager, times(1)).commit(any());
+        verify(transactionManager, times(1)).rollback(any());
+        // Das Event des ersten Chunks ging mit dessen Commit raus, das des abgebrochenen nicht
+        verify(eventPublisher).publishEvent(TaskChangedEvent.bulkCategories(42L, Arrays.asList(7L, null)));
+        verify(eventPublisher, never()).publishEvent(TaskChangedEvent.bulkCategories(43L, Arrays.asList(7L, null)));
+    }
+}
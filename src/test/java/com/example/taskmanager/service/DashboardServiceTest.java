@@ -0,0 +1,105 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.deadline.RequestDeadline;
+import com.example.taskmanager.dto.CategoryResponseDTO;
+import com.example.taskmanager.dto.dashboard.DashboardResponseDTO;
+import com.example.taskmanager.dto.dashboard.DashboardSectionDTO.Status;
+import com.example.taskmanager.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardService Tests")
+public class DashboardServiceTest {
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private CategoryService categoryService;
+
+    private ExecutorService executor;
+    private DashboardService dashboardService;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        dashboardService = new DashboardService(taskService, categoryService, executor, Duration.ofMillis(200));
+
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setUsername("testuser");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Sollte Teilergebnisse liefern, wenn ein Zweig fehlschlägt und einer zu lange braucht")
+    void getDashboard_ShouldReturnPartialResults() {
+        // Arrange
+        when(taskService.getAllTasks()).thenThrow(new IllegalStateException("DB weg"));
+        when(taskService.getCompletedTasks()).thenAnswer(invocation -> {
+            Thread.sleep(2_000);
+            return List.of();
+        });
+        when(categoryService.getAllCategories()).thenReturn(List.of(new CategoryResponseDTO()));
+
+        // Act
+        DashboardResponseDTO dashboard = dashboardService.getDashboard(testUser);
+
+        // Assert
+        assertThat(dashboard.getTasks().getStatus()).isEqualTo(Status.FAILED);
+        assertThat(dashboard.getTasks().getData()).isNull();
+        assertThat(dashboard.getCompletedTasks().getStatus()).isEqualTo(Status.TIMEOUT);
+        assertThat(dashboard.getCategories().getStatus()).isEqualTo(Status.OK);
+        assertThat(dashboard.getCategories().getData()).hasSize(1);
+        assertThat(dashboard.getProfile().getData().getUsername()).isEqualTo("testuser");
+        assertThat(dashboard.getDurationMs()).isLessThan(2_000);
+    }
+
+    @Test
+    @DisplayName("Sollte das Zweig-Timeout im Worker als Deadline setzen und danach wieder entfernen")
+    void getDashboard_ShouldRunBranchesWithDeadline() throws Exception {
+        // Arrange: ein einzelner Worker, damit die Prüfung danach im selben Thread läuft
+        ExecutorService singleThread = Executors.newSingleThreadExecutor();
+        dashboardService = new DashboardService(taskService, categoryService, singleThread, Duration.ofMillis(200));
+        AtomicLong remainingInBranch = new AtomicLong(-1);
+        when(taskService.getAllTasks()).thenAnswer(invocation -> {
+            remainingInBranch.set(RequestDeadline.remainingMillis());
+            return List.of();
+        });
+        when(taskService.getCompletedTasks()).thenReturn(List.of());
+        when(categoryService.getAllCategories()).thenReturn(List.of());
+
+        try {
+            // Act
+            DashboardResponseDTO dashboard = dashboardService.getDashboard(testUser);
+            boolean deadlineLeftOver = singleThread.submit(RequestDeadline::isSet).get();
+
+            // Assert
+            assertThat(dashboard.getTasks().getStatus()).isEqualTo(Status.OK);
+            assertThat(remainingInBranch.get()).isBetween(0L, 200L);
+            assertThat(deadlineLeftOver).isFalse();
+        } finally {
+            singleThread.shutdownNow();
+        }
+    }
+}
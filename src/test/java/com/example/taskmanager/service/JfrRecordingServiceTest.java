@@ -0,0 +1,71 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.exception.RecordingStateException;
+import com.example.taskmanager.security.JwtTokenProvider;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JfrRecordingService Tests")
+public class JfrRecordingServiceTest {
+
+    private final JfrRecordingService service = new JfrRecordingService(Duration.ofMinutes(5), DataSize.ofMegabytes(10));
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    @DisplayName("Sollte JWT-Prüfungen als Event aufzeichnen und als .jfr-Datei ausliefern")
+    void dump_ShouldContainJwtVerificationEvents() throws Exception {
+        // Arrange
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret",
+                "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970");
+        service.start("default");
+
+        // Act
+        jwtTokenProvider.validateToken("kein.gueltiges.token");
+        service.stop();
+        Path file = Files.createTempFile("jfr-test-", ".jfr");
+        try (InputStream dump = service.dump()) {
+            Files.copy(dump, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        // Assert
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("com.example.taskmanager.JwtVerification"))
+                .toList();
+        Files.delete(file);
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getBoolean("valid")).isFalse();
+        assertThat(events.get(0).getString("failure")).isEqualTo("Invalid JWT token");
+    }
+
+    @Test
+    @DisplayName("Sollte zweiten Start und Stop ohne Aufnahme ablehnen")
+    void start_ShouldRejectSecondRecording() {
+        // Arrange & Act
+        assertThatThrownBy(service::stop).isInstanceOf(RecordingStateException.class);
+        service.start("default");
+
+        // Assert
+        assertThatThrownBy(() -> service.start("profile")).isInstanceOf(RecordingStateException.class);
+        assertThat(service.stop().getState()).isEqualTo("STOPPED");
+    }
+}
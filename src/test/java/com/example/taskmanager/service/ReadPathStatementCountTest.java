@@ -0,0 +1,222 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.CategoryResponseDTO;
+import com.example.taskmanager.dto.TaskFilter;
+import com.example.taskmanager.dto.TaskResponseDTO;
+import com.example.taskmanager.mapper.CategoryMapper;
+import com.example.taskmanager.mapper.TaskMapper;
+import com.example.taskmanager.model.Category;
+import com.example.taskmanager.model.Role;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.User;
+import com.example.taskmanager.support.HibernateStatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Regressionsschutz gegen N+1: jeder lesende Pfad von TaskService und CategoryService braucht eine feste
+ * Anzahl Statements, unabhängig von der Anzahl Zeilen. Lädt ein Mapper pro Zeile nach, schlägt der Test fehl.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@Import({TaskService.class, CategoryService.class, TaskMapper.class, CategoryMapper.class})
+@DisplayName("Read Path Statement Count Tests")
+public class ReadPathStatementCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    private HibernateStatementCounter counter;
+    private User testUser;
+    private Category work;
+    private Task firstTask;
+
+    @BeforeEach
+    void setUp() {
+        counter = new HibernateStatementCounter(entityManagerFactory);
+        testUser = createUser("testuser", "test@example.com");
+        User otherUser = createUser("other", "other@example.com");
+        work = createCategory("Arbeit");
+        Category shopping = createCategory("Einkauf");
+        Category home = createCategory("Haushalt");
+
+        // testuser: 6 Tasks in 3 Kategorien, 2 davon erledigt; other: 2 Tasks in Arbeit
+        firstTask = createTask("Bericht schreiben", testUser, work, false);
+        createTask("Einkauf Markt", testUser, shopping, false);
+        createTask("Fenster putzen", testUser, home, false);
+        createTask("Ohne Kategorie", testUser, null, false);
+        createTask("Meeting", testUser, work, true);
+        createTask("Einkauf Baumarkt", testUser, shopping, true);
+        createTask("Fremder Task 1", otherUser, work, false);
+        createTask("Fremder Task 2", otherUser, work, false);
+
+        // Leerer Persistence Context, sonst würden Lazy-Loads aus dem Cache bedient
+        entityManager.flush();
+        entityManager.clear();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(testUser, null, testUser.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("getAllTasks sollte Tasks samt Kategorien mit einem Statement laden")
+    void getAllTasks_ShouldUseOneStatement() {
+        // Act: 6 Tasks + 3 Kategorien
+        List<TaskResponseDTO> tasks = counter.expect(1, 9, taskService::getAllTasks);
+
+        // Assert
+        assertThat(tasks).hasSize(6);
+        assertThat(tasks).extracting(TaskResponseDTO::getCategoryName).containsOnly("Arbeit", "Einkauf", "Haushalt", null);
+    }
+
+    @Test
+    @DisplayName("findTasks sollte mit einem Statement auskommen")
+    void findTasks_ShouldUseOneStatement() {
+        // Act: 2 erledigte Tasks + 2 Kategorien
+        List<TaskResponseDTO> tasks = counter.expect(1, 4, () -> taskService.findTasks(TaskFilter.completed(true)));
+
+        // Assert
+        assertThat(tasks).extracting(TaskResponseDTO::getTitle).containsExactlyInAnyOrder("Meeting", "Einkauf Baumarkt");
+    }
+
+    @Test
+    @DisplayName("getTaskFields sollte nur projizieren und keine Entities laden")
+    void getTaskFields_ShouldNotLoadEntities() {
+        // Act
+        List<Map<String, Object>> rows = counter.expect(1, 0,
+                () -> taskService.getTaskFields("id,categoryName", new TaskFilter()));
+
+        // Assert
+        assertThat(rows).hasSize(6);
+    }
+
+    @Test
+    @DisplayName("getTasksAfter sollte eine Seite mit einem Statement laden")
+    void getTasksAfter_ShouldUseOneStatement() {
+        // Act: 3 Tasks + 3 Kategorien
+        List<TaskResponseDTO> tasks = counter.expect(1, 6, () -> taskService.getTasksAfter(testUser, 0L, 3));
+
+        // Assert
+        assertThat(tasks).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("getTaskById sollte Task und Kategorie mit einem Statement laden")
+    void getTaskById_ShouldUseOneStatement() {
+        // Act
+        TaskResponseDTO task = counter.expect(1, 2, () -> taskService.getTaskById(firstTask.getId()));
+
+        // Assert
+        assertThat(task.getCategoryName()).isEqualTo("Arbeit");
+    }
+
+    @Test
+    @DisplayName("getCompletedTasks sollte mit einem Statement auskommen")
+    void getCompletedTasks_ShouldUseOneStatement() {
+        // Act
+        List<TaskResponseDTO> tasks = counter.expect(1, 4, taskService::getCompletedTasks);
+
+        // Assert
+        assertThat(tasks).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("searchTasks sollte mit einem Statement auskommen")
+    void searchTasks_ShouldUseOneStatement() {
+        // Act: 2 Tasks in derselben Kategorie
+        List<TaskResponseDTO> tasks = counter.expect(1, 3, () -> taskService.searchTasks("einkauf"));
+
+        // Assert
+        assertThat(tasks).extracting(TaskResponseDTO::getCategoryName).containsOnly("Einkauf");
+    }
+
+    @Test
+    @DisplayName("getTasksByCategory sollte Existenzprüfung und DTO-Projektion ohne Entity-Loads ausführen")
+    void getTasksByCategory_ShouldUseTwoStatements() {
+        // Act
+        List<TaskResponseDTO> tasks = counter.expect(2, 0,
+                () -> taskService.getTasksByCategory(work.getId(), 0, 10).getContent());
+
+        // Assert: nur die eigenen Tasks
+        assertThat(tasks).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("getAllCategories sollte Anzahl Tasks per Count-Query statt pro Kategorie laden")
+    void getAllCategories_ShouldUseTwoStatements() {
+        // Act
+        List<CategoryResponseDTO> categories = counter.expect(2, 3, categoryService::getAllCategories);
+
+        // Assert: taskCount zählt die Tasks aller User
+        assertThat(categories).extracting(CategoryResponseDTO::getName, CategoryResponseDTO::getTaskCount)
+                .containsExactlyInAnyOrder(
+                        tuple("Arbeit", 4),
+                        tuple("Einkauf", 2),
+                        tuple("Haushalt", 1));
+    }
+
+    @Test
+    @DisplayName("getCategoryById sollte Kategorie und Anzahl Tasks mit zwei Statements laden")
+    void getCategoryById_ShouldUseTwoStatements() {
+        // Act
+        CategoryResponseDTO category = counter.expect(2, 1, () -> categoryService.getCategoryById(work.getId()));
+
+        // Assert
+        assertThat(category.getTaskCount()).isEqualTo(4);
+    }
+
+    private User createUser(String username, String email) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(Role.USER);
+        user.setEnabled(true);
+        return entityManager.persist(user);
+    }
+
+    private Category createCategory(String name) {
+        Category category = new Category();
+        category.setName(name);
+        return entityManager.persist(category);
+    }
+
+    private Task createTask(String title, User user, Category category, boolean completed) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setUser(user);
+        task.setCategory(category);
+        task.setCompleted(completed);
+        return entityManager.persist(task);
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.BulkOperationResponseDTO;
+import com.example.taskmanager.dto.TaskFilter;
+import com.example.taskmanager.exception.InvalidQueryParameterException;
+import com.example.taskmanager.mapper.TaskMapper;
+import com.example.taskmanager.model.Category;
+import com.example.taskmanager.model.Role;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Bulk-Operationen gegen die echte Datenbank: Schutz vor Operationen ohne Kriterium, Beschränkung auf
+ * den eigenen User, Anzahl betroffener Zeilen und updatedAt.
+ */
+@DataJpaTest
+@Import({TaskService.class, TaskMapper.class})
+@DisplayName("TaskService Bulk-Operationen")
+public class TaskBulkOperationsTest {
+
+    // Weit genug in der Vergangenheit, dass jedes neue updatedAt danach liegt
+    private static final LocalDateTime OLD = LocalDateTime.of(2020, 1, 1, 12, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskService taskService;
+
+    private User testUser;
+    private User otherUser;
+    private Category work;
+    private Category home;
+
+    @BeforeEach
+    void setUp() {
+        testUser = createUser("testuser", "test@example.com");
+        otherUser = createUser("other", "other@example.com");
+        work = createCategory("Arbeit");
+        home = createCategory("Haushalt");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(testUser, null, testUser.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Sollte Bulk-Operationen mit nur sort ablehnen und nichts ändern")
+    void bulkOperations_WithSortOnly_ShouldBeRejected() {
+        // Arrange
+        Task task = createTask("Bericht", testUser, work, false);
+        TaskFilter sortOnly = new TaskFilter();
+        sortOnly.setSort("id");
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.deleteTasks(sortOnly)).isInstanceOf(InvalidQueryParameterException.class);
+        assertThatThrownBy(() -> taskService.completeTasks(sortOnly)).isInstanceOf(InvalidQueryParameterException.class);
+        assertThatThrownBy(() -> taskService.reopenTasks(sortOnly)).isInstanceOf(InvalidQueryParameterException.class);
+        assertThatThrownBy(() -> taskService.moveTasks(sortOnly, home.getId()))
+                .isInstanceOf(InvalidQueryParameterException.class);
+
+        Task reloaded = reload(task);
+        assertThat(reloaded).isNotNull();
+        assertThat(reloaded.isCompleted()).isFalse();
+        assertThat(reloaded.getCategory().getId()).isEqualTo(work.getId());
+    }
+
+    @Test
+    @DisplayName("Sollte beim Complete nur offene Tasks des Users zählen und nur deren updatedAt setzen")
+    void completeTasks_ShouldOnlyTouchOpenTasksOfCurrentUser() {
+        // Arrange
+        Task open1 = createTask("Bericht", testUser, work, false);
+        Task open2 = createTask("Meeting", testUser, work, false);
+        Task done = createTask("Erledigt", testUser, work, true);
+        Task otherHome = createTask("Fenster", testUser, home, false);
+        Task foreign = createTask("Fremder Task", otherUser, work, false);
+        ageAll();
+
+        TaskFilter filter = new TaskFilter();
+        filter.setCategoryId(work.getId());
+
+        // Act
+        BulkOperationResponseDTO result = taskService.completeTasks(filter);
+
+        // Assert
+        assertThat(result.getAffectedTasks()).isEqualTo(2);
+        assertThat(reload(open1).isCompleted()).isTrue();
+        assertThat(reload(open1).getUpdatedAt()).isAfter(OLD);
+        assertThat(reload(open1).getCompletedAt()).isEqualTo(reload(open1).getUpdatedAt());
+        assertThat(reload(open2).getUpdatedAt()).isAfter(OLD);
+        // Schon erledigt, anderer Kategorie oder anderer User: unverändert samt updatedAt
+        assertThat(reload(done).getUpdatedAt()).isEqualTo(OLD);
+        assertThat(reload(otherHome).isCompleted()).isFalse();
+        assertThat(reload(otherHome).getUpdatedAt()).isEqualTo(OLD);
+        assertThat(reload(foreign).isCompleted()).isFalse();
+        assertThat(reload(foreign).getUpdatedAt()).isEqualTo(OLD);
+    }
+
+    @Test
+    @DisplayName("Sollte beim Reopen completedAt zurücksetzen")
+    void reopenTasks_ShouldClearCompletedAt() {
+        // Arrange
+        Task done = createTask("Erledigt", testUser, work, true);
+        assertThat(reload(done).getCompletedAt()).isNotNull();
+
+        // Act
+        BulkOperationResponseDTO result = taskService.reopenTasks(TaskFilter.completed(true));
+
+        // Assert
+        assertThat(result.getAffectedTasks()).isEqualTo(1);
+        assertThat(reload(done).isCompleted()).isFalse();
+        assertThat(reload(done).getCompletedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("Sollte beim Move keine Tasks anderer User verschieben")
+    void moveTasks_ShouldNotMoveTasksOfOtherUsers() {
+        // Arrange
+        Task own = createTask("Bericht", testUser, work, false);
+        Task foreign = createTask("Bericht", otherUser, work, false);
+        ageAll();
+
+        // Act
+        BulkOperationResponseDTO result = taskService.moveTasks(TaskFilter.keyword("bericht"), home.getId());
+
+        // Assert
+        assertThat(result.getAffectedTasks()).isEqualTo(1);
+        assertThat(reload(own).getCategory().getId()).isEqualTo(home.getId());
+        assertThat(reload(own).getUpdatedAt()).isAfter(OLD);
+        assertThat(reload(foreign).getCategory().getId()).isEqualTo(work.getId());
+        assertThat(reload(foreign).getUpdatedAt()).isEqualTo(OLD);
+    }
+
+    @Test
+    @DisplayName("Sollte beim Delete nur passende Tasks des Users löschen")
+    void deleteTasks_ShouldNotDeleteTasksOfOtherUsers() {
+        // Arrange
+        Task own = createTask("Erledigt", testUser, work, true);
+        Task ownOpen = createTask("Offen", testUser, work, false);
+        Task foreign = createTask("Erledigt", otherUser, work, true);
+
+        // Act
+        BulkOperationResponseDTO result = taskService.deleteTasks(TaskFilter.completed(true));
+
+        // Assert
+        assertThat(result.getAffectedTasks()).isEqualTo(1);
+        assertThat(reload(own)).isNull();
+        assertThat(reload(ownOpen)).isNotNull();
+        assertThat(reload(foreign)).isNotNull();
+    }
+
+    // Helper Methods
+
+    // updatedAt aller Tasks zurückdatieren, damit neue Zeitstempel sicher unterscheidbar sind
+    private void ageAll() {
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createNativeQuery("update tasks set updated_at = ?1")
+                .setParameter(1, OLD)
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    private Task reload(Task task) {
+        entityManager.flush();
+        entityManager.clear();
+        return entityManager.find(Task.class, task.getId());
+    }
+
+    private Task createTask(String title, User user, Category category, boolean completed) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("Description");
+        task.setCompleted(completed);
+        task.setUser(user);
+        task.setCategory(category);
+        return entityManager.persistAndFlush(task);
+    }
+
+    private Category createCategory(String name) {
+        Category category = new Category();
+        category.setName(name);
+        return entityManager.persist(category);
+    }
+
+    private User createUser(String username, String email) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(Role.USER);
+        return entityManager.persistAndFlush(user);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.event.TaskChangedEvent.TaskState;
+import com.example.taskmanager.repository.TaskDailyRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskRollupService Tests")
+public class TaskRollupServiceTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 3, 1, 9, 0);
+    private static final LocalDateTime COMPLETED = LocalDateTime.of(2024, 3, 4, 17, 0);
+
+    @Mock
+    private TaskDailyRollupRepository rollupRepository;
+
+    private TaskRollupService rollupService;
+
+    @BeforeEach
+    void setUp() {
+        rollupService = new TaskRollupService(rollupRepository);
+    }
+
+    @Test
+    @DisplayName("Sollte eine alte Erledigung bei einer Titeländerung nicht verschieben")
+    void onTaskChanged_WithTitleEdit_ShouldNotTouchRollups() {
+        // Arrange
+        TaskState before = new TaskState(7L, true, CREATED, COMPLETED, COMPLETED);
+        TaskState after = new TaskState(7L, true, CREATED, LocalDateTime.now(), COMPLETED);
+
+        // Act
+        rollupService.onTaskChanged(new TaskChangedEvent(1L, before, after, null));
+
+        // Assert
+        verifyNoInteractions(rollupRepository);
+    }
+
+    @Test
+    @DisplayName("Sollte Erledigungen am Tag von completedAt zählen")
+    void onTaskChanged_WhenCompleted_ShouldCountOnCompletedDay() {
+        // Arrange
+        TaskState before = new TaskState(7L, false, CREATED, CREATED, null);
+        TaskState after = new TaskState(7L, true, CREATED, COMPLETED, COMPLETED);
+
+        // Act
+        rollupService.onTaskChanged(new TaskChangedEvent(1L, before, after, null));
+
+        // Assert
+        verify(rollupRepository).increment(1L, CREATED.toLocalDate(), 7L, -1, 0);
+        verify(rollupRepository).increment(1L, CREATED.toLocalDate(), 7L, 1, 0);
+        verify(rollupRepository).increment(1L, COMPLETED.toLocalDate(), 7L, 0, 1);
+        verifyNoMoreInteractions(rollupRepository);
+    }
+
+    @Test
+    @DisplayName("Sollte Bulk-Events nur für den betroffenen User neu aufbauen")
+    void onTaskChanged_WithBulkCategoryEvent_ShouldRebuildOnlyForUser() {
+        // Act
+        rollupService.onTaskChanged(TaskChangedEvent.bulkCategories(1L, Arrays.asList(7L, null)));
+
+        // Assert
+        verify(rollupRepository).rebuild(1L, Arrays.asList(7L, null));
+        verify(rollupRepository, never()).rebuild(isNull(), any());
+        verify(rollupRepository, never()).increment(anyLong(), any(), anyLong(), anyLong(), anyLong());
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.taskmanager.service;
 
+import com.example.taskmanager.dto.TaskFilter;
 import com.example.taskmanager.dto.TaskRequestDTO;
 import com.example.taskmanager.dto.TaskResponseDTO;
+import com.example.taskmanager.exception.CategoryNotFoundException;
+import com.example.taskmanager.exception.InvalidQueryParameterException;
 import com.example.taskmanager.exception.TaskNotFoundException;
 import com.example.taskmanager.mapper.TaskMapper;
 import com.example.taskmanager.model.Task;
@@ -15,6 +18,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -28,6 +34,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +50,9 @@ public class TaskServiceTest {
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Mock
     private SecurityContext securityContext;
 
@@ -206,4 +216,75 @@ public class TaskServiceTest {
         assertEquals(1, result.size());
         verify(taskRepository, times(1)).findByUserAndTitleContainingIgnoreCase(testUser, keyword);
     }
+
+    @Test
+    @DisplayName("Sollte Bulk-Move ohne Update abbrechen, wenn Zielkategorie nicht existiert")
+    void moveTasks_ShouldThrowException_WhenTargetCategoryNotFound() {
+        // Arrange
+        when(categoryRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.moveTasks(TaskFilter.completed(true), 99L))
+                .isInstanceOf(CategoryNotFoundException.class);
+        verify(taskRepository, never()).updateCategory(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Sollte sort=feld,desc als absteigende Sortierung an das Repository geben")
+    void findTasks_WithSortDescending_ShouldPassSortToRepository() {
+        // Arrange
+        TaskFilter filter = new TaskFilter();
+        filter.setSort("createdAt, DESC");
+        when(taskRepository.findAll(any(Specification.class), any(Sort.class))).thenReturn(List.of(testTask));
+        when(taskMapper.toResponseDTO(testTask)).thenReturn(responseDTO);
+
+        // Act
+        List<TaskResponseDTO> result = taskService.findTasks(filter);
+
+        // Assert
+        assertEquals(1, result.size());
+        verify(taskRepository).findAll(any(Specification.class), eq(Sort.by(Sort.Direction.DESC, "createdAt")));
+    }
+
+    @Test
+    @DisplayName("Sollte ohne Richtung aufsteigend sortieren")
+    void findTasks_WithSortWithoutDirection_ShouldSortAscending() {
+        // Arrange
+        TaskFilter filter = new TaskFilter();
+        filter.setSort("title");
+        when(taskRepository.findAll(any(Specification.class), any(Sort.class))).thenReturn(List.of());
+
+        // Act
+        taskService.findTasks(filter);
+
+        // Assert
+        verify(taskRepository).findAll(any(Specification.class), eq(Sort.by(Sort.Direction.ASC, "title")));
+    }
+
+    @Test
+    @DisplayName("Sollte Sortierung nach nicht freigegebenem Feld ablehnen")
+    void findTasks_WithUnknownSortField_ShouldThrowException() {
+        // Arrange
+        TaskFilter filter = new TaskFilter();
+        filter.setSort("user.password");
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.findTasks(filter))
+                .isInstanceOf(InvalidQueryParameterException.class)
+                .hasMessageContaining("user.password");
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Sollte unbekannte Sortierrichtung ablehnen")
+    void findTasks_WithUnknownSortDirection_ShouldThrowException() {
+        // Arrange
+        TaskFilter filter = new TaskFilter();
+        filter.setSort("id,sideways");
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.findTasks(filter))
+                .isInstanceOf(InvalidQueryParameterException.class);
+        verifyNoInteractions(taskRepository);
+    }
 }
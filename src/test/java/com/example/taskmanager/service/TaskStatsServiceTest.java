@@ -0,0 +1,184 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.TaskStatsResponseDTO;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.event.TaskChangedEvent.TaskState;
+import com.example.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskStatsService Tests")
+public class TaskStatsServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskStatsService taskStatsService;
+
+    @BeforeEach
+    void setUp() {
+        taskStatsService = new TaskStatsService(taskRepository, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("Sollte Zähler einmal laden und danach über Events fortschreiben")
+    void getStats_ShouldApplyEventsWithoutRequery() {
+        // Arrange
+        when(taskRepository.countByUserIdGroupedByCategoryAndCompleted(1L)).thenReturn(List.of(
+                new Object[]{5L, true, 2L},
+                new Object[]{5L, false, 1L},
+                new Object[]{null, false, 3L}));
+        taskStatsService.getStats(1L);
+
+        // Act
+        taskStatsService.onTaskChanged(new TaskChangedEvent(1L, state(5L, false), state(5L, true), null));
+        taskStatsService.onTaskChanged(new TaskChangedEvent(1L, null, state(7L, false), null));
+        taskStatsService.onTaskChanged(new TaskChangedEvent(1L, state(null, false), null, null));
+        TaskStatsResponseDTO stats = taskStatsService.getStats(1L);
+
+        // Assert
+        assertThat(stats.getTotal()).isEqualTo(6);
+        assertThat(stats.getCompleted()).isEqualTo(3);
+        assertThat(stats.getOpen()).isEqualTo(3);
+        assertThat(stats.getUncategorized()).isEqualTo(2);
+        assertThat(stats.getByCategory()).isEqualTo(Map.of(5L, 3L, 7L, 1L));
+        verify(taskRepository, times(1)).countByUserIdGroupedByCategoryAndCompleted(1L);
+    }
+
+    @Test
+    @DisplayName("Sollte nach Bulk-Event und beim Reconcile neu zählen")
+    void bulkEventAndReconcile_ShouldRecount() {
+        // Arrange
+        when(taskRepository.countByUserIdGroupedByCategoryAndCompleted(1L))
+                .thenReturn(List.<Object[]>of(new Object[]{null, false, 4L}))
+                .thenReturn(List.<Object[]>of(new Object[]{null, true, 4L}))
+                .thenReturn(List.<Object[]>of(new Object[]{null, true, 1L}));
+        taskStatsService.getStats(1L);
+
+        // Act & Assert
+        taskStatsService.onTaskChanged(TaskChangedEvent.bulk(1L));
+        assertThat(taskStatsService.getStats(1L).getCompleted()).isEqualTo(4);
+
+        taskStatsService.reconcile();
+        assertThat(taskStatsService.getStats(1L).getTotal()).isEqualTo(1);
+        verify(taskRepository, times(3)).countByUserIdGroupedByCategoryAndCompleted(1L);
+    }
+
+    @Test
+    @DisplayName("Sollte neu zählen, wenn während des Ladens ein Event ankommt")
+    void getStats_WhenEventArrivesDuringLoad_ShouldReload() {
+        // Arrange: der erste Count sieht den neuen Task noch nicht, das Event kommt mitten in der Abfrage
+        when(taskRepository.countByUserIdGroupedByCategoryAndCompleted(1L))
+                .thenAnswer(invocation -> {
+                    taskStatsService.onTaskChanged(new TaskChangedEvent(1L, null, state(null, false), null));
+                    return List.<Object[]>of(new Object[]{null, false, 2L});
+                })
+                .thenReturn(List.<Object[]>of(new Object[]{null, false, 3L}));
+
+        // Act
+        TaskStatsResponseDTO stats = taskStatsService.getStats(1L);
+
+        // Assert: weder verloren noch doppelt gezählt
+        assertThat(stats.getTotal()).isEqualTo(3);
+        assertThat(taskStatsService.getStats(1L).getTotal()).isEqualTo(3);
+        verify(taskRepository, times(2)).countByUserIdGroupedByCategoryAndCompleted(1L);
+    }
+
+    @Test
+    @DisplayName("Sollte beim Reconcile keine gleichzeitig eingetroffenen Events überschreiben")
+    void reconcile_WhenEventArrivesDuringLoad_ShouldKeepIncrements() {
+        // Arrange
+        when(taskRepository.countByUserIdGroupedByCategoryAndCompleted(1L))
+                .thenReturn(List.<Object[]>of(new Object[]{null, false, 2L}))
+                .thenAnswer(invocation -> {
+                    taskStatsService.onTaskChanged(new TaskChangedEvent(1L, null, state(null, false), null));
+                    return List.<Object[]>of(new Object[]{null, false, 2L});
+                });
+        taskStatsService.getStats(1L);
+
+        // Act
+        taskStatsService.reconcile();
+
+        // Assert: der veraltete Count aus dem Reconcile wird verworfen
+        assertThat(taskStatsService.getStats(1L).getTotal()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Sollte parallele Events ohne verlorene Updates zählen")
+    void onTaskChanged_Concurrently_ShouldNotLoseUpdates() throws Exception {
+        // Arrange
+        when(taskRepository.countByUserIdGroupedByCategoryAndCompleted(1L))
+                .thenReturn(List.<Object[]>of(new Object[]{5L, false, 10L}));
+        taskStatsService.getStats(1L);
+        int threads = 8;
+        int eventsPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act: jeder Thread legt Tasks an, schließt sie ab und liest zwischendurch
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < eventsPerThread; i++) {
+                    taskStatsService.onTaskChanged(new TaskChangedEvent(1L, null, state(5L, false), null));
+                    taskStatsService.onTaskChanged(new TaskChangedEvent(1L, state(5L, false), state(5L, true), null));
+                    taskStatsService.getStats(1L);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Assert
+        TaskStatsResponseDTO stats = taskStatsService.getStats(1L);
+        assertThat(stats.getTotal()).isEqualTo(10 + threads * eventsPerThread);
+        assertThat(stats.getCompleted()).isEqualTo(threads * eventsPerThread);
+        assertThat(stats.getByCategory()).isEqualTo(Map.of(5L, 10L + threads * eventsPerThread));
+        verify(taskRepository, times(1)).countByUserIdGroupedByCategoryAndCompleted(1L);
+    }
+
+    @Test
+    @DisplayName("Sollte beim Reconcile User ohne Abruf seit idle-timeout verwerfen")
+    void reconcile_ShouldEvictIdleUsers() {
+        // Arrange
+        taskStatsService = new TaskStatsService(taskRepository, Duration.ZERO);
+        when(taskRepository.countByUserIdGroupedByCategoryAndCompleted(1L))
+                .thenReturn(List.<Object[]>of(new Object[]{null, false, 2L}));
+        taskStatsService.getStats(1L);
+
+        // Act
+        taskStatsService.reconcile();
+        taskStatsService.getStats(1L);
+
+        // Assert: verworfen und beim nächsten Abruf frisch geladen, der Reconcile selbst zählt nicht
+        verify(taskRepository, times(2)).countByUserIdGroupedByCategoryAndCompleted(1L);
+    }
+
+    private TaskState state(Long categoryId, boolean completed) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TaskState(categoryId, completed, now, now, completed ? now : null);
+    }
+}
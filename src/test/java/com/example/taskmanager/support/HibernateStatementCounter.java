@@ -0,0 +1,48 @@
+package com.example.taskmanager.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Prüft die Anzahl der SQL-Statements und Entity-Loads eines Aufrufs über die Hibernate-Statistik.
+ * Braucht spring.jpa.properties.hibernate.generate_statistics=true. Die Statistik ist global pro
+ * SessionFactory, Messungen dürfen also nicht parallel laufen.
+ * Damit Lazy-Loads zählen, muss der Persistence Context vor dem Aufruf leer sein (entityManager.clear()).
+ */
+public class HibernateStatementCounter {
+
+    private final Statistics statistics;
+
+    public HibernateStatementCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        assertThat(statistics.isStatisticsEnabled())
+                .as("hibernate.generate_statistics ist nicht aktiv")
+                .isTrue();
+    }
+
+    /**
+     * Führt den Aufruf aus und prüft die genaue Anzahl Statements und geladener Entities.
+     * Die Fehlermeldung nennt zusätzlich Lazy-Fetches und die ausgeführten Queries, ein N+1 ist so direkt zu sehen.
+     */
+    public <T> T expect(long statements, long entityLoads, Supplier<T> call) {
+        statistics.clear();
+        T result = call.get();
+
+        String details = String.format("Entity-Fetches %d, Collection-Fetches %d, Queries %s",
+                statistics.getEntityFetchCount(), statistics.getCollectionFetchCount(),
+                Arrays.toString(statistics.getQueries()));
+        assertThat(statistics.getPrepareStatementCount())
+                .as("SQL-Statements (%s)", details)
+                .isEqualTo(statements);
+        assertThat(statistics.getEntityLoadCount())
+                .as("Entity-Loads (%s)", details)
+                .isEqualTo(entityLoads);
+        return result;
+    }
+}
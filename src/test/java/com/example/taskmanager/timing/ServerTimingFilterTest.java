@@ -0,0 +1,69 @@
+package com.example.taskmanager.timing;
+
+import com.example.taskmanager.timing.RequestTimings.Phase;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ServerTimingFilter Tests")
+public class ServerTimingFilterTest {
+
+    @Test
+    @DisplayName("Sollte Phasen als Server-Timing-Header setzen und den Body unverändert durchreichen")
+    void doFilter_ShouldAddServerTimingHeader() throws Exception {
+        // Arrange: zwei Statements, ein verschachtelter Mapper-Aufruf, danach Body schreiben
+        ServerTimingFilter filter = new ServerTimingFilter(true, Duration.ofSeconds(10));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                for (int i = 0; i < 2; i++) {
+                    RequestTimings.enter(Phase.DB);
+                    RequestTimings.exit(Phase.DB);
+                }
+                RequestTimings.enter(Phase.MAPPING);
+                RequestTimings.enter(Phase.MAPPING);
+                RequestTimings.exit(Phase.MAPPING);
+                RequestTimings.exit(Phase.MAPPING);
+                resp.getWriter().write("[]");
+                resp.flushBuffer();
+            }
+        });
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING))
+                .matches("db;dur=\\d+\\.\\d;desc=\"2 statements\", map;dur=\\d+\\.\\d, total;dur=\\d+\\.\\d");
+        assertThat(response.getContentAsString()).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("Sollte ohne laufende Messung nichts erfassen und ausgeschaltet keinen Header setzen")
+    void doFilter_ShouldBeNoOp_WhenDisabled() throws Exception {
+        // Arrange
+        ServerTimingFilter filter = new ServerTimingFilter(false, Duration.ofSeconds(10));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act: enter/exit außerhalb eines Requests dürfen nicht scheitern
+        RequestTimings.enter(Phase.DB);
+        RequestTimings.exit(Phase.DB);
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // Assert
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING)).isNull();
+    }
+}
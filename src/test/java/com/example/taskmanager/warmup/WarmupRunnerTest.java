@@ -0,0 +1,53 @@
+package com.example.taskmanager.warmup;
+
+import com.example.taskmanager.model.User;
+import com.example.taskmanager.repository.TaskDailyRollupRepository;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"app.warmup.enabled=true", "app.warmup.iterations=5", "app.warmup.max-duration=PT1M"})
+@ActiveProfiles("test")
+@DisplayName("WarmupRunner Tests")
+public class WarmupRunnerTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskDailyRollupRepository rollupRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationAvailability availability;
+
+    @Test
+    @DisplayName("Sollte vor der Readiness alle Iterationen messen und nichts in der Datenbank hinterlassen")
+    void run_ShouldMeasureIterationsAndLeaveNoData() {
+        // Act: der Runner ist beim Start des Contexts gelaufen
+
+        // Assert
+        Timer iterations = meterRegistry.find("warmup.iteration").timer();
+        assertThat(iterations).isNotNull();
+        assertThat(iterations.count()).isEqualTo(5);
+        assertThat(userRepository.findAll()).extracting(User::getUsername).noneMatch(name -> name.startsWith("warmup-"));
+        assertThat(taskRepository.findAll()).isEmpty();
+        assertThat(rollupRepository.findAll()).isEmpty();
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+    }
+}